@@ -0,0 +1,82 @@
+package com.sporty.eventtracker.benchmarks;
+
+import com.sporty.eventtracker.interfaces.EventScheduler;
+import com.sporty.eventtracker.services.AdaptivePollingPolicy;
+import com.sporty.eventtracker.services.schedulers.CompactEventRegistry;
+import com.sporty.eventtracker.services.schedulers.DynamicEventScheduler;
+import com.sporty.eventtracker.services.schedulers.GlobalEventScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jol.info.GraphLayout;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Retained size per tracked event, measured with JOL: the object graph reachable from the
+ * scheduler is walked with 10k events tracked and with none, and the difference is divided
+ * by 10k. The ids count when the scheduler keeps them, as the map-based variants do.
+ *
+ * Run with './gradlew registryFootprint'.
+ */
+public final class EventRegistryFootprint {
+
+    private static final int EVENTS = 10_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.printf("%-8s %-8s %14s%n", "mode", "registry", "bytes/event");
+        for (String mode : new String[] {"dynamic", "global"}) {
+            for (String registry : new String[] {"map", "compact"}) {
+                System.out.printf("%-8s %-8s %14.1f%n", mode, registry, bytesPerEvent(mode, registry));
+            }
+        }
+    }
+
+    private static double bytesPerEvent(String mode, String registry) throws InterruptedException {
+        // The only pool thread is parked, so per-event tasks stay queued as they do between two polls
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(1);
+        taskScheduler.initialize();
+        CountDownLatch parked = new CountDownLatch(1);
+        CountDownLatch parking = new CountDownLatch(1);
+        taskScheduler.execute(() -> {
+            parking.countDown();
+            try {
+                parked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        parking.await();
+
+        try {
+            EventScheduler scheduler = scheduler(mode, registry, taskScheduler);
+            long empty = GraphLayout.parseInstance(scheduler).totalSize();
+            for (int i = 0; i < EVENTS; i++) {
+                scheduler.startTracking("match-" + i);
+            }
+            long tracked = GraphLayout.parseInstance(scheduler).totalSize();
+            return (double) (tracked - empty) / EVENTS;
+        } finally {
+            parked.countDown();
+            taskScheduler.shutdown();
+        }
+    }
+
+    private static EventScheduler scheduler(String mode, String registry, ThreadPoolTaskScheduler taskScheduler) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        // Initial capacity 16, so the compact registry grows as a real one does
+        CompactEventRegistry compact = "compact".equals(registry) ? new CompactEventRegistry(16) : null;
+        if ("dynamic".equals(mode)) {
+            // The compact registry's ticker is never started: no polls run during the measurement
+            AdaptivePollingPolicy adaptivePolicy = new AdaptivePollingPolicy(meterRegistry, false, 5000, 60000, 2.0);
+            return new DynamicEventScheduler(taskScheduler, new SyncTaskExecutor(), new StubPollingService(),
+                    adaptivePolicy, meterRegistry, null, compact);
+        }
+        return new GlobalEventScheduler(new StubPollingService(), new SyncTaskExecutor(), meterRegistry,
+                8, 10_000, compact);
+    }
+
+    private EventRegistryFootprint() {
+    }
+}
@@ -0,0 +1,46 @@
+package com.sporty.eventtracker.benchmarks;
+
+import com.sporty.eventtracker.services.schedulers.GlobalEventScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One global-mode tick over N live events with a polling service that returns immediately,
+ * i.e. the scheduler's own overhead per tick (snapshot, chunk claiming, liveness filter).
+ * Workers run inline so every tick finishes before the next invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GlobalTickBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int events;
+
+    private GlobalEventScheduler scheduler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scheduler = new GlobalEventScheduler(new StubPollingService(), new SyncTaskExecutor(),
+                new SimpleMeterRegistry(), 8, 10_000, null);
+        for (int i = 0; i < events; i++) {
+            scheduler.startTracking("match-" + i);
+        }
+    }
+
+    @Benchmark
+    public void pollAllEvents() {
+        scheduler.pollAllEvents();
+    }
+}
@@ -0,0 +1,72 @@
+package com.sporty.eventtracker.benchmarks;
+
+import com.sporty.eventtracker.services.AdaptivePollingPolicy;
+import com.sporty.eventtracker.services.schedulers.DynamicEventScheduler;
+import com.sporty.eventtracker.services.schedulers.GlobalEventScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of starting and then stopping tracking for N events, per scheduler mode.
+ * One invocation is a full churn of every event. The task scheduler never fires what it is
+ * given and tracker logging is at WARN (src/jmh/resources/logback.xml), so only start/stop
+ * is measured, not background polls or console output.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SchedulerChurnBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int events;
+
+    private String[] eventIds;
+    private DynamicEventScheduler dynamicScheduler;
+    private GlobalEventScheduler globalScheduler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        eventIds = new String[events];
+        for (int i = 0; i < events; i++) {
+            eventIds[i] = "match-" + i;
+        }
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AdaptivePollingPolicy adaptivePolicy = new AdaptivePollingPolicy(meterRegistry, false, 5000, 60000, 2.0);
+        StubPollingService pollingService = new StubPollingService();
+        dynamicScheduler = new DynamicEventScheduler(new NonFiringTaskScheduler(), new SyncTaskExecutor(), pollingService,
+                adaptivePolicy, meterRegistry, null, null);
+        globalScheduler = new GlobalEventScheduler(pollingService, new SyncTaskExecutor(), meterRegistry, 8, 10_000, null);
+    }
+
+    @Benchmark
+    public void dynamicChurn() {
+        for (String eventId : eventIds) {
+            dynamicScheduler.startTracking(eventId);
+        }
+        for (String eventId : eventIds) {
+            dynamicScheduler.stopTracking(eventId);
+        }
+    }
+
+    @Benchmark
+    public void globalChurn() {
+        for (String eventId : eventIds) {
+            globalScheduler.startTracking(eventId);
+        }
+        for (String eventId : eventIds) {
+            globalScheduler.stopTracking(eventId);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.sporty.eventtracker.benchmarks;
+
+import com.sporty.eventtracker.dto.ScoreUpdate;
+import com.sporty.eventtracker.services.serialization.ScoreUpdateBinarySerializer;
+import com.sporty.eventtracker.services.serialization.ScoreUpdateJsonSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kafka value serialization per app.kafka.value-format. The 'map' case includes building the
+ * legacy map, since the producer does that for every send.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScoreUpdateSerializationBenchmark {
+
+    private static final String TOPIC = "live-scores-topic";
+
+    private final ScoreUpdate update = new ScoreUpdate("match-000123", 2, 1, 1_700_000_000_000L);
+    private ScoreUpdateBinarySerializer binarySerializer;
+    private ScoreUpdateJsonSerializer jsonSerializer;
+    private JsonSerializer<Object> mapSerializer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        binarySerializer = new ScoreUpdateBinarySerializer();
+        jsonSerializer = new ScoreUpdateJsonSerializer();
+        mapSerializer = new JsonSerializer<>();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mapSerializer.close();
+    }
+
+    @Benchmark
+    public byte[] map() {
+        return mapSerializer.serialize(TOPIC, update.toMap());
+    }
+
+    @Benchmark
+    public byte[] binary() {
+        return binarySerializer.serialize(TOPIC, update);
+    }
+
+    @Benchmark
+    public byte[] json() {
+        return jsonSerializer.serialize(TOPIC, update);
+    }
+}
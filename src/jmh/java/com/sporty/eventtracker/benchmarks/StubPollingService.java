@@ -0,0 +1,47 @@
+package com.sporty.eventtracker.benchmarks;
+
+import com.sporty.eventtracker.services.AdaptivePollingPolicy;
+import com.sporty.eventtracker.services.PollLog;
+import com.sporty.eventtracker.services.ScorePollingService;
+import com.sporty.eventtracker.services.UpstreamGuard;
+import com.sporty.eventtracker.services.UpstreamValidators;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Polling service that completes every poll immediately, so benchmarks measure the
+ * scheduler and not the upstream.
+ */
+class StubPollingService extends ScorePollingService {
+
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+
+    StubPollingService() {
+        super(null, null, null,
+                new UpstreamValidators(new SimpleMeterRegistry(), false),
+                new PollLog(new SimpleMeterRegistry(), "standard", 10, 60_000),
+                new AdaptivePollingPolicy(new SimpleMeterRegistry(), false, 5000, 60000, 2.0),
+                new UpstreamGuard(new SimpleMeterRegistry(), 5, 10_000, 50, 0.1),
+                new SimpleMeterRegistry(), "http://localhost/", null, "http://localhost/scores", false, 1, null, null, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> pollSingleEvent(String eventId) {
+        return DONE;
+    }
+
+    @Override
+    public CompletableFuture<Void> pollEvents(List<String> eventIds) {
+        return DONE;
+    }
+
+    @Override
+    public void onTrackingStarted(String eventId) {
+    }
+
+    @Override
+    public void onTrackingStopped(String eventId) {
+    }
+}
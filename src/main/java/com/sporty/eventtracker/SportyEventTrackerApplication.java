@@ -1,11 +1,14 @@
 package com.sporty.eventtracker;
 
+import com.sporty.eventtracker.config.TrackerRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableScheduling
+@ImportRuntimeHints(TrackerRuntimeHints.class)
 public class SportyEventTrackerApplication {
 
     public static void main(String[] args) {
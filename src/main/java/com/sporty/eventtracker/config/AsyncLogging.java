@@ -0,0 +1,99 @@
+package com.sporty.eventtracker.config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Production logging mode: moves Spring Boot's console appender behind a bounded
+ * {@link AsyncAppender}, so poll threads only enqueue events and never wait on stdout.
+ * A full queue drops the event instead of blocking (tracker.logging.suppressed{kind=dropped});
+ * from 80% full, TRACE/DEBUG/INFO events are dropped first so WARN and ERROR still get through.
+ */
+@Component
+@ConditionalOnProperty(name = "app.logging.mode", havingValue = "production")
+public class AsyncLogging {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncLogging.class);
+    private static final String CONSOLE = "CONSOLE"; // Name of Spring Boot's console appender
+
+    private final int queueSize;
+    private final Counter dropped;
+    private final MeterRegistry meterRegistry;
+
+    private ch.qos.logback.classic.Logger root;
+    private Appender<ILoggingEvent> console;
+    private AsyncAppender async;
+
+    public AsyncLogging(MeterRegistry meterRegistry,
+                        @Value("${app.logging.async.queue-size:8192}") int queueSize) {
+        this.meterRegistry = meterRegistry;
+        this.queueSize = queueSize;
+        this.dropped = Counter.builder("tracker.logging.suppressed")
+                .description("Log lines left out in production logging mode")
+                .tag("kind", "dropped")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            logger.warn("Async logging needs Logback, keeping synchronous logging");
+            return;
+        }
+        root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        console = root.getAppender(CONSOLE);
+        if (console == null) {
+            logger.warn("No '{}' appender found, keeping synchronous logging", CONSOLE);
+            return;
+        }
+
+        async = new AsyncAppender() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                int remaining = getRemainingCapacity();
+                if (remaining == 0 || (remaining < getDiscardingThreshold() && isDiscardable(event))) {
+                    dropped.increment();
+                }
+                super.append(event);
+            }
+        };
+        async.setContext(context);
+        async.setName("ASYNC_" + CONSOLE);
+        async.setQueueSize(queueSize);
+        async.setDiscardingThreshold(queueSize / 5);
+        async.setNeverBlock(true);
+        async.setIncludeCallerData(false); // Caller data costs a stack walk per event
+        async.addAppender(console);
+        async.start();
+
+        root.addAppender(async);
+        root.detachAppender(console);
+        Gauge.builder("tracker.logging.queue", async, AsyncAppender::getNumberOfElementsInQueue)
+                .description("Log events waiting for the console appender")
+                .register(meterRegistry);
+        logger.info("Async console logging enabled, queue of {} events", queueSize);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (async == null) {
+            return;
+        }
+        // Back to synchronous logging for the rest of the shutdown; stop() flushes the queue
+        root.addAppender(console);
+        root.detachAppender(async);
+        async.stop();
+    }
+}
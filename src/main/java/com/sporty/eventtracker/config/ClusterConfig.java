@@ -0,0 +1,68 @@
+package com.sporty.eventtracker.config;
+
+import com.sporty.eventtracker.services.cluster.ClusterMembership;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.CooperativeStickyAssignor;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.KafkaMessageListenerContainer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cluster mode: events are owned by status-topic partition, and partitions are spread over
+ * the instances by a Kafka consumer group. The partition count caps the useful cluster size.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.cluster.enabled", havingValue = "true")
+public class ClusterConfig {
+
+    @Bean
+    public NewTopic clusterStatusTopic(@Value("${app.cluster.status-topic:event-status}") String statusTopic,
+                                       @Value("${app.cluster.partitions:12}") int partitions,
+                                       @Value("${app.cluster.replicas:1}") int replicas) {
+        return TopicBuilder.name(statusTopic)
+                .partitions(partitions)
+                .replicas(replicas)
+                .compact()
+                .build();
+    }
+
+    @Bean
+    public KafkaMessageListenerContainer<String, String> clusterStatusContainer(
+            KafkaProperties kafkaProperties,
+            ClusterMembership membership,
+            @Value("${app.cluster.status-topic:event-status}") String statusTopic,
+            @Value("${app.cluster.group-id:sporty-event-tracker}") String groupId) {
+        return statusContainer(kafkaProperties.buildConsumerProperties(null), statusTopic, groupId, membership);
+    }
+
+    /**
+     * One consumer per instance. Committed offsets are irrelevant: every assigned partition is
+     * replayed from the beginning by {@link ClusterMembership}.
+     */
+    public static KafkaMessageListenerContainer<String, String> statusContainer(Map<String, Object> consumerProperties,
+                                                                                String statusTopic,
+                                                                                String groupId,
+                                                                                ClusterMembership membership) {
+        Map<String, Object> configs = new HashMap<>(consumerProperties);
+        configs.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        configs.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        configs.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        configs.put(ConsumerConfig.PARTITION_ASSIGNMENT_STRATEGY_CONFIG, CooperativeStickyAssignor.class.getName());
+
+        ContainerProperties containerProperties = new ContainerProperties(statusTopic);
+        containerProperties.setMessageListener(membership);
+        containerProperties.setConsumerRebalanceListener(membership);
+        return new KafkaMessageListenerContainer<>(new DefaultKafkaConsumerFactory<>(configs), containerProperties);
+    }
+}
@@ -0,0 +1,63 @@
+package com.sporty.eventtracker.config;
+
+import com.sporty.eventtracker.dto.ScoreUpdate;
+import com.sporty.eventtracker.services.serialization.ScoreUpdateBinarySerializer;
+import com.sporty.eventtracker.services.serialization.ScoreUpdateJsonSerializer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+
+import java.util.Map;
+
+@Configuration
+public class KafkaConfig {
+
+    /**
+     * Typed value formats ('binary', 'json') swap in a hand-written ScoreUpdate serializer.
+     * The default 'map' format keeps the JsonSerializer configured in application.yml.
+     */
+    @Bean
+    @ConditionalOnExpression("'${app.kafka.value-format:map}' != 'map'")
+    @SuppressWarnings("unchecked")
+    public DefaultKafkaProducerFactoryCustomizer scoreUpdateSerializerCustomizer(
+            @Value("${app.kafka.value-format}") String valueFormat) {
+        Serializer<ScoreUpdate> serializer = switch (valueFormat) {
+            case "binary" -> new ScoreUpdateBinarySerializer();
+            case "json" -> new ScoreUpdateJsonSerializer();
+            default -> throw new IllegalArgumentException("Unknown app.kafka.value-format: " + valueFormat);
+        };
+        return producerFactory ->
+                ((DefaultKafkaProducerFactory<String, ScoreUpdate>) producerFactory).setValueSerializer(serializer);
+    }
+
+    /**
+     * 'throughput' producer profile: bigger batches with a short linger, lz4 compression and
+     * idempotent delivery. max.block.ms is kept short so a full buffer fails fast and shows up
+     * as backpressure in ScoreUpdateProducer instead of blocking poll threads.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.kafka.producer.profile", havingValue = "throughput")
+    public DefaultKafkaProducerFactoryCustomizer throughputProducerCustomizer(
+            @Value("${app.kafka.producer.batch-size:65536}") int batchSize,
+            @Value("${app.kafka.producer.linger-ms:20}") int lingerMs,
+            @Value("${app.kafka.producer.compression:lz4}") String compression,
+            @Value("${app.kafka.producer.buffer-memory:33554432}") long bufferMemory,
+            @Value("${app.kafka.producer.max-block-ms:500}") long maxBlockMs) {
+        Map<String, Object> configs = Map.of(
+                ProducerConfig.BATCH_SIZE_CONFIG, batchSize,
+                ProducerConfig.LINGER_MS_CONFIG, lingerMs,
+                ProducerConfig.COMPRESSION_TYPE_CONFIG, compression,
+                ProducerConfig.BUFFER_MEMORY_CONFIG, bufferMemory,
+                ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlockMs,
+                ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true,
+                ProducerConfig.ACKS_CONFIG, "all",
+                ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        return producerFactory -> producerFactory.updateConfigs(configs);
+    }
+}
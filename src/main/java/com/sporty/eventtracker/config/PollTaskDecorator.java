@@ -0,0 +1,72 @@
+package com.sporty.eventtracker.config;
+
+import com.sporty.eventtracker.interfaces.PollTask;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Wraps a poll handed off to another thread: copies the caller's MDC (eventId, correlationId)
+ * and caps how many polls may hit the upstream at the same time.
+ *
+ * The permit is taken on the handing-off thread, before the poll's thread exists. A poll that
+ * finds none is skipped and counted, so a slow upstream cannot pile up waiting threads; the
+ * event is polled again on its next run. A {@link PollTask} keeps its permit until its future
+ * settles, so polls waiting for a rate-limit permit still count against the cap.
+ */
+public class PollTaskDecorator implements TaskDecorator {
+
+    private static final Runnable SKIPPED = () -> { };
+
+    private final Semaphore permits;
+    private final AtomicLong skipped = new AtomicLong();
+
+    public PollTaskDecorator(int maxConcurrentPolls) {
+        this.permits = new Semaphore(maxConcurrentPolls);
+    }
+
+    @Override
+    public Runnable decorate(Runnable task) {
+        if (!permits.tryAcquire()) {
+            skipped.incrementAndGet();
+            return SKIPPED;
+        }
+        Map<String, String> context = MDC.getCopyOfContextMap();
+
+        return () -> {
+            if (context != null) {
+                MDC.setContextMap(context);
+            }
+            CompletableFuture<Void> pending = null;
+            try {
+                if (task instanceof PollTask poll) {
+                    pending = poll.start();
+                } else {
+                    task.run();
+                }
+            } finally {
+                if (pending == null || pending.isDone()) {
+                    permits.release();
+                } else {
+                    pending.whenComplete((result, ex) -> permits.release());
+                }
+                MDC.clear();
+            }
+        };
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Polls skipped because max-concurrent-polls were already running.
+     */
+    public long skippedPolls() {
+        return skipped.get();
+    }
+}
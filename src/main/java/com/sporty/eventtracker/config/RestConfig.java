@@ -1,9 +1,11 @@
 package com.sporty.eventtracker.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
+import java.net.http.HttpClient;
 import java.time.Duration;
 
 @Configuration
@@ -15,4 +17,14 @@ public class RestConfig {
             .readTimeout(Duration.ofSeconds(5))    
             .build();
     }
-}
\ No newline at end of file
+
+    // Shared across all async polls: keeps connections alive and multiplexes over HTTP/2 when offered
+    @Bean
+    @ConditionalOnProperty(name = "app.external-api.client", havingValue = "async")
+    public HttpClient scoreHttpClient() {
+        return HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    }
+}
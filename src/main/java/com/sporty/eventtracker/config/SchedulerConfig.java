@@ -1,7 +1,15 @@
 package com.sporty.eventtracker.config;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @Configuration
@@ -15,4 +23,56 @@ public class SchedulerConfig {
         scheduler.initialize();
         return scheduler;
     }
-}
\ No newline at end of file
+
+    /**
+     * Platform mode (default): the poll runs inline on the scheduler thread that fired the tick.
+     */
+    @Bean("pollExecutor")
+    @ConditionalOnProperty(name = "app.scheduling.executor", havingValue = "platform", matchIfMissing = true)
+    public TaskExecutor platformPollExecutor() {
+        return new SyncTaskExecutor();
+    }
+
+    /**
+     * Virtual mode: the scheduler thread only fires the tick, every blocking poll gets its own
+     * virtual thread. Requires a Java 21+ runtime. Beyond max-concurrent-polls a poll is skipped
+     * rather than given a thread to wait on, and counted as tracker.poll.concurrency.skipped.
+     */
+    @Bean("pollExecutor")
+    @ConditionalOnProperty(name = "app.scheduling.executor", havingValue = "virtual")
+    public TaskExecutor virtualPollExecutor(MeterRegistry meterRegistry,
+                                            @Value("${app.scheduling.max-concurrent-polls:200}") int maxConcurrentPolls) {
+        PollTaskDecorator decorator = new PollTaskDecorator(maxConcurrentPolls);
+        FunctionCounter.builder("tracker.poll.concurrency.skipped", decorator, PollTaskDecorator::skippedPolls)
+                .description("Polls skipped because max-concurrent-polls were already in flight")
+                .register(meterRegistry);
+
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("event-poll-");
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(decorator);
+        return executor;
+    }
+
+    /**
+     * Workers that fan a global-mode tick out. Platform mode gets a fixed pool of 'parallelism'
+     * threads; virtual mode runs each worker on its own virtual thread. Workers are not capped by
+     * max-concurrent-polls: a tick starts at most 'parallelism' of them and must run them all.
+     */
+    @Bean("globalPollWorkers")
+    @ConditionalOnProperty(name = "app.scheduling.mode", havingValue = "global")
+    public TaskExecutor globalPollWorkers(@Value("${app.scheduling.executor:platform}") String executorMode,
+                                          @Value("${app.scheduling.global.parallelism:8}") int parallelism) {
+        if ("virtual".equals(executorMode)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("global-poll-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(parallelism); // One tick at a time, never more than one task per worker
+        executor.setThreadNamePrefix("global-poll-");
+        executor.initialize();
+        return executor;
+    }
+}
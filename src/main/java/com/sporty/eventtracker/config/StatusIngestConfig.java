@@ -0,0 +1,54 @@
+package com.sporty.eventtracker.config;
+
+import com.sporty.eventtracker.dto.EventStatusUpdate;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Status ingestion from Kafka: EventStatusUpdate JSON records, consumed in batches.
+ * Offsets are committed only after a batch was applied; a batch that fails to apply is
+ * redelivered until it succeeds, which is safe because start/stop are idempotent.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.status-ingest.enabled", havingValue = "true")
+public class StatusIngestConfig {
+
+    private static final long RETRY_INTERVAL_MS = 1000;
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, EventStatusUpdate> statusIngestContainerFactory(
+            KafkaProperties kafkaProperties,
+            @Value("${app.status-ingest.max-batch-size:500}") int maxBatchSize,
+            @Value("${app.status-ingest.concurrency:1}") int concurrency) {
+        Map<String, Object> configs = new HashMap<>(kafkaProperties.buildConsumerProperties(null));
+        configs.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxBatchSize);
+        configs.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        // A record that is not valid JSON arrives as a null value instead of failing the whole batch
+        ErrorHandlingDeserializer<EventStatusUpdate> valueDeserializer =
+                new ErrorHandlingDeserializer<>(new JsonDeserializer<>(EventStatusUpdate.class, false));
+
+        ConcurrentKafkaListenerContainerFactory<String, EventStatusUpdate> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(configs, new StringDeserializer(), valueDeserializer));
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(new FixedBackOff(RETRY_INTERVAL_MS, FixedBackOff.UNLIMITED_ATTEMPTS)));
+        return factory;
+    }
+}
@@ -0,0 +1,34 @@
+package com.sporty.eventtracker.config;
+
+import com.sporty.eventtracker.dto.EventStatusUpdate;
+import com.sporty.eventtracker.dto.ScoreUpdate;
+import com.sporty.eventtracker.services.serialization.ScoreUpdateBinaryDeserializer;
+import com.sporty.eventtracker.services.serialization.ScoreUpdateBinarySerializer;
+import com.sporty.eventtracker.services.serialization.ScoreUpdateJsonSerializer;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.List;
+
+/**
+ * Reflection a native image cannot discover on its own. Controller payloads are covered by
+ * Spring's AOT processing; Kafka payloads and serializers named in configuration are not.
+ */
+public class TrackerRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingHints = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Jackson reads status updates off the ingest topic and the 'map' value format writes through it
+        bindingHints.registerReflectionHints(hints.reflection(), EventStatusUpdate.class, ScoreUpdate.class);
+
+        // Kafka instantiates serializers from class names, e.g. value-deserializer in a consumer's config
+        for (Class<?> serde : List.of(ScoreUpdateBinarySerializer.class, ScoreUpdateBinaryDeserializer.class,
+                ScoreUpdateJsonSerializer.class)) {
+            hints.reflection().registerType(serde, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        }
+    }
+}
@@ -1,27 +1,57 @@
 package com.sporty.eventtracker.controllers;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.sporty.eventtracker.dto.BulkStatusResponse;
 import com.sporty.eventtracker.dto.EventStatus;
 import com.sporty.eventtracker.dto.EventStatusUpdate;
-import com.sporty.eventtracker.interfaces.EventScheduler;
+import com.sporty.eventtracker.services.StatusUpdates;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 import com.sporty.eventtracker.dto.EventResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
 @RestController
 @RequestMapping("/events")
 public class EventController {
     
     private static final Logger logger = LoggerFactory.getLogger(EventController.class); // SLF4J Logger
-    private final EventScheduler eventScheduler; // Spring injects the correct one
+    private static final String NDJSON = "application/x-ndjson";
+    private static final int STREAM_CHUNK_SIZE = 1000; // Streamed updates applied per scheduler call
+
+    private final StatusUpdates statusUpdates; // Validates, applies and journals every status change
+    private final ObjectReader updateReader; // Reused per NDJSON line; binds straight to the record
+    private final int maxBulkSize; // Larger feeds go to /status/stream, which applies them in chunks
 
-    public EventController(EventScheduler eventScheduler) {
-        this.eventScheduler = eventScheduler;
+    public EventController(StatusUpdates statusUpdates,
+                           ObjectMapper objectMapper,
+                           @Value("${app.status-bulk.max-size:10000}") int maxBulkSize) {
+        this.statusUpdates = statusUpdates;
+        this.updateReader = objectMapper.readerFor(EventStatusUpdate.class);
+        this.maxBulkSize = maxBulkSize;
     }
 
     @PostMapping("/status")
@@ -38,15 +68,17 @@ public class EventController {
         MDC.put("eventId", update.eventId()); 
         logger.info("Received status update: {}", update.status());
 
-        String message;
-
         // 3. Execute Logic
-        if (update.status() == EventStatus.LIVE) {
-            eventScheduler.startTracking(update.eventId());
-            message = "Tracking started successfully";
+        StatusUpdates.Batch batch = statusUpdates.batch();
+        batch.add(update);
+        applyOrUnavailable(batch);
+        String message;
+        if (batch.routed() > 0) {
+            message = "Status routed to the owning instance";
+        } else if (update.status() == EventStatus.LIVE) {
+            message = batch.started() > 0 ? "Tracking started successfully" : "Event already tracked";
         } else {
-            eventScheduler.stopTracking(update.eventId());
-            message = "Tracking stopped successfully";
+            message = batch.stopped() > 0 ? "Tracking stopped successfully" : "Event was not tracked";
         }
         
         // 4. Return Structured JSON
@@ -54,4 +86,120 @@ public class EventController {
             EventResponse.success(update.eventId(), update.status().name(), message)
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * Applies a JSON array of status updates in one pass. Invalid items, including ones that do
+     * not bind (unknown status, wrong types), are reported, not fatal. The array is read element
+     * by element and refused with 413 once it has more than maxBulkSize items, before anything
+     * is applied.
+     */
+    @PostMapping(path = "/status/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkStatusResponse> updateStatuses(InputStream body) throws IOException {
+        BulkIngest ingest = new BulkIngest();
+        try (JsonParser parser = updateReader.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Expected a JSON array of status updates");
+            }
+            for (int i = 0; parser.nextToken() != JsonToken.END_ARRAY; i++) {
+                if (i == maxBulkSize) {
+                    logger.warn("Refused bulk status update of more than {} items", maxBulkSize);
+                    throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "At most " + maxBulkSize
+                            + " updates per bulk request; send larger feeds to /events/status/stream");
+                }
+                JsonNode item = updateReader.readTree(parser);
+                try {
+                    ingest.add(i, updateReader.readValue(item));
+                } catch (JsonProcessingException e) {
+                    JsonNode eventId = item.path("eventId");
+                    ingest.reject(i, eventId.isTextual() ? eventId.asText() : null, "Invalid update");
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Malformed JSON array", e);
+        }
+        ingest.apply();
+
+        logger.info("Applied bulk status update: {}", ingest.summary());
+        return ResponseEntity.ok(ingest.response());
+    }
+
+    /**
+     * Applies newline-delimited JSON status updates while the body is still being read,
+     * in chunks of STREAM_CHUNK_SIZE. A malformed line is rejected on its own.
+     */
+    @PostMapping(path = "/status/stream", consumes = NDJSON)
+    public ResponseEntity<BulkStatusResponse> streamStatuses(InputStream body) throws IOException {
+        BulkIngest ingest = new BulkIngest();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            for (int lineNumber = 0; (line = reader.readLine()) != null; lineNumber++) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    ingest.add(lineNumber, updateReader.readValue(line));
+                } catch (JsonProcessingException e) {
+                    ingest.reject(lineNumber, null, "Malformed JSON");
+                }
+                if (ingest.pending() >= STREAM_CHUNK_SIZE) {
+                    ingest.apply();
+                }
+            }
+        }
+        ingest.apply();
+
+        logger.info("Applied streamed status update: {}", ingest.summary());
+        return ResponseEntity.ok(ingest.response());
+    }
+
+    // In cluster mode the update only counts once the status topic has it; otherwise the caller has to retry
+    private static void applyOrUnavailable(StatusUpdates.Batch batch) {
+        try {
+            batch.apply();
+        } catch (CompletionException e) {
+            logger.error("Could not route status update: {}", e.getCause() == null ? e.getMessage() : e.getCause().getMessage());
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Could not route status update", e);
+        }
+    }
+
+    /**
+     * Collects one request's updates into a {@link StatusUpdates.Batch}, and the invalid ones by
+     * index for the response.
+     */
+    private final class BulkIngest {
+        private final StatusUpdates.Batch batch = statusUpdates.batch();
+        private final List<BulkStatusResponse.Rejection> rejections = new ArrayList<>();
+        private int received;
+
+        void add(int index, EventStatusUpdate update) {
+            received++;
+            if (!batch.add(update)) {
+                rejections.add(new BulkStatusResponse.Rejection(index, update == null ? null : update.eventId(),
+                        "Invalid eventId or status"));
+            }
+        }
+
+        void reject(int index, String eventId, String reason) {
+            received++;
+            rejections.add(new BulkStatusResponse.Rejection(index, eventId, reason));
+        }
+
+        int pending() {
+            return batch.pending();
+        }
+
+        void apply() {
+            applyOrUnavailable(batch);
+        }
+
+        String summary() {
+            return received + " received, " + batch.started() + " started, " + batch.stopped() + " stopped, "
+                    + batch.routed() + " routed, " + rejections.size() + " rejected";
+        }
+
+        BulkStatusResponse response() {
+            return new BulkStatusResponse(received, batch.started(), batch.stopped(), batch.routed(),
+                    rejections.size(), rejections, LocalDateTime.now());
+        }
+    }
+}
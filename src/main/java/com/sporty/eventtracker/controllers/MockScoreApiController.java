@@ -1,43 +1,117 @@
 package com.sporty.eventtracker.controllers;
 
+import com.sporty.eventtracker.services.simulator.UpstreamSimulator;
+import com.sporty.eventtracker.services.simulator.UpstreamSimulator.SimulatedScore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 
+/**
+ * Stand-in for the external score provider. Latency, failures and score progression
+ * come from {@link UpstreamSimulator} (app.mock-api.*); by default it answers instantly.
+ */
 @RestController
 public class MockScoreApiController {
 
     private static final Logger logger = LoggerFactory.getLogger(MockScoreApiController.class);
-    private final Random random = new Random(); 
+    private final UpstreamSimulator simulator;
 
+    public MockScoreApiController(UpstreamSimulator simulator) {
+        this.simulator = simulator;
+    }
+
+    /**
+     * Answers conditional requests like a cache-friendly provider: every response carries an ETag
+     * and Last-Modified for the current score, and a matching If-None-Match (or an If-Modified-Since
+     * not older than the last change) gets a bodiless 304.
+     */
     @GetMapping("/mock-api/score/{eventId}")
-    public Map<String, String> getMockScore(@PathVariable("eventId") String eventId) {
+    public CompletableFuture<ResponseEntity<Map<String, String>>> getMockScore(
+            @PathVariable("eventId") String eventId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.IF_MODIFIED_SINCE, required = false) String ifModifiedSince) {
         try {
             if (eventId == null) {
                 throw new IllegalArgumentException("Event ID cannot be null");
             }
 
-            // Generate random scores
-            int homeScore = random.nextInt(4); // 0-3
-            int awayScore = random.nextInt(4); // 0-3
-            String currentScore = homeScore + ":" + awayScore;
-
-            Map<String, String> response = new HashMap<>();
-            response.put("eventId", eventId);
-            response.put("currentScore", currentScore);
-
-            logger.debug("Generated mock score for {}: {}", eventId, currentScore);
-            return response;
+            return simulator.respond(() -> conditionalScore(eventId, ifNoneMatch, ifModifiedSince));
 
         } catch (Exception e) {
             logger.error("CRASH inside MockController for event {}: {}", eventId, e.getMessage(), e);
             throw e;
         }
     }
-}
\ No newline at end of file
+
+    // Multi-event variant: /mock-api/scores?ids=a,b,c
+    @GetMapping("/mock-api/scores")
+    public CompletableFuture<List<Map<String, String>>> getMockScores(@RequestParam("ids") List<String> eventIds) {
+        return simulator.respond(() -> {
+            List<Map<String, String>> response = new ArrayList<>(eventIds.size());
+            for (String eventId : eventIds) {
+                if (!eventId.isBlank()) {
+                    response.add(scoreOf(eventId));
+                }
+            }
+            logger.debug("Generated {} mock scores in one batch", response.size());
+            return response;
+        });
+    }
+
+    private ResponseEntity<Map<String, String>> conditionalScore(String eventId, String ifNoneMatch, String ifModifiedSince) {
+        SimulatedScore score = simulator.score(eventId);
+        String etag = "\"" + score.home() + "-" + score.away() + "-" + score.changedAt() + "\"";
+        long lastModifiedSeconds = score.changedAt() / 1000; // HTTP dates have second precision
+
+        boolean notModified = ifNoneMatch != null
+                ? ifNoneMatch.contains(etag)
+                : ifModifiedSince != null && lastModifiedSeconds <= parseHttpDate(ifModifiedSince) / 1000;
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                .eTag(etag)
+                .lastModified(lastModifiedSeconds * 1000);
+        if (notModified) {
+            logger.debug("Mock score for {} not modified", eventId);
+            return response.build();
+        }
+        return response.body(scoreOf(eventId, score));
+    }
+
+    private static long parseHttpDate(String value) {
+        try {
+            return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return -1; // Unparseable: ignore the condition
+        }
+    }
+
+    private Map<String, String> scoreOf(String eventId) {
+        return scoreOf(eventId, simulator.score(eventId));
+    }
+
+    private Map<String, String> scoreOf(String eventId, SimulatedScore score) {
+        String currentScore = score.currentScore();
+
+        Map<String, String> response = new HashMap<>();
+        response.put("eventId", eventId);
+        response.put("currentScore", currentScore);
+
+        logger.debug("Generated mock score for {}: {}", eventId, currentScore);
+        return response;
+    }
+}
@@ -0,0 +1,40 @@
+package com.sporty.eventtracker.controllers;
+
+import com.sporty.eventtracker.services.fanout.ScoreFanout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Live scores for browsers and other clients without Kafka: one Server-Sent Events stream
+ * per event, sending a "score" event with the ScoreUpdate JSON on every change.
+ */
+@RestController
+@ConditionalOnProperty(name = "app.fanout.enabled", havingValue = "true")
+public class ScoreStreamController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScoreStreamController.class);
+
+    private final ScoreFanout fanout;
+
+    public ScoreStreamController(ScoreFanout fanout) {
+        this.fanout = fanout;
+    }
+
+    @GetMapping(path = "/events/{eventId}/scores/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamScores(@PathVariable("eventId") String eventId) {
+        try {
+            return fanout.subscribe(eventId);
+        } catch (IllegalStateException e) {
+            logger.warn("Refusing score stream for event {}: {}", eventId, e.getMessage());
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        }
+    }
+}
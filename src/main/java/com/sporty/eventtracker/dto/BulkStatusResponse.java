@@ -0,0 +1,25 @@
+package com.sporty.eventtracker.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Outcome of a bulk or streamed status ingest: counts plus one entry per rejected item.
+ * started/stopped only count events whose tracking state changed; updates that were handed
+ * to the owning instance in cluster mode are counted as routed.
+ */
+public record BulkStatusResponse(
+    int received,
+    int started,
+    int stopped,
+    int routed,
+    int rejected,
+    List<Rejection> rejections,
+    LocalDateTime timestamp
+) {
+    /**
+     * A rejected item; index is its position in the array, or its line number in the stream (from 0).
+     */
+    public record Rejection(int index, String eventId, String reason) {
+    }
+}
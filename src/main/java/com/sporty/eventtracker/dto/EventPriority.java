@@ -0,0 +1,11 @@
+package com.sporty.eventtracker.dto;
+
+/**
+ * Polling tier of a tracked event. Under overload LOW is stretched or shed first and HIGH
+ * is never skipped; see LoadShedder.
+ */
+public enum EventPriority {
+    HIGH,
+    NORMAL,
+    LOW
+}
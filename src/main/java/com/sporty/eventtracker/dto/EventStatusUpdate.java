@@ -2,7 +2,11 @@ package com.sporty.eventtracker.dto;
 
 public record EventStatusUpdate(
     String eventId,
-    EventStatus status
+    EventStatus status,
+    EventPriority priority // Optional; null means NORMAL
 ) {
-}
 
+    public EventStatusUpdate(String eventId, EventStatus status) {
+        this(eventId, status, null);
+    }
+}
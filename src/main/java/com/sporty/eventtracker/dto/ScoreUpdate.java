@@ -0,0 +1,50 @@
+package com.sporty.eventtracker.dto;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One polled score, parsed once into primitives so it can be serialized without reflection.
+ */
+public record ScoreUpdate(
+    String eventId,
+    int homeScore,
+    int awayScore,
+    long polledAt // Epoch millis of the poll that produced this score
+) {
+    public ScoreUpdate {
+        if (eventId == null) {
+            throw new IllegalArgumentException("eventId cannot be null");
+        }
+        if (homeScore < 0 || awayScore < 0) {
+            throw new IllegalArgumentException("Scores cannot be negative: " + homeScore + ":" + awayScore);
+        }
+    }
+
+    /**
+     * Parses the upstream "home:away" notation, e.g. "2:1".
+     */
+    public static ScoreUpdate of(String eventId, String currentScore, long polledAt) {
+        int separator = currentScore == null ? -1 : currentScore.indexOf(':');
+        if (separator <= 0 || separator == currentScore.length() - 1) {
+            throw new IllegalArgumentException("Malformed score for event " + eventId + ": " + currentScore);
+        }
+        int home = Integer.parseInt(currentScore, 0, separator, 10);
+        int away = Integer.parseInt(currentScore, separator + 1, currentScore.length(), 10);
+        return new ScoreUpdate(eventId, home, away, polledAt);
+    }
+
+    public String currentScore() {
+        return homeScore + ":" + awayScore;
+    }
+
+    /**
+     * The legacy Kafka payload: { "eventId": "...", "currentScore": "h:a" }.
+     */
+    public Map<String, String> toMap() {
+        Map<String, String> payload = new HashMap<>(4);
+        payload.put("eventId", eventId);
+        payload.put("currentScore", currentScore());
+        return payload;
+    }
+}
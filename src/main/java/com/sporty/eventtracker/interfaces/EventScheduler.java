@@ -1,7 +1,37 @@
 package com.sporty.eventtracker.interfaces;
 
+import com.sporty.eventtracker.dto.EventPriority;
+
+import java.util.Collection;
+
 public interface EventScheduler {
-    void startTracking(String eventId);
-    void stopTracking(String eventId);
-}
+    // Both return false when the event already was in the requested state
+    boolean startTracking(String eventId);
+    boolean stopTracking(String eventId);
 
+    // Bulk variants for status feeds; schedulers override them where a batch is cheaper than a loop.
+    // They return how many events actually started or stopped
+    default int startTrackingAll(Collection<String> eventIds) {
+        int started = 0;
+        for (String eventId : eventIds) {
+            if (startTracking(eventId)) {
+                started++;
+            }
+        }
+        return started;
+    }
+
+    default int stopTrackingAll(Collection<String> eventIds) {
+        int stopped = 0;
+        for (String eventId : eventIds) {
+            if (stopTracking(eventId)) {
+                stopped++;
+            }
+        }
+        return stopped;
+    }
+
+    // Tier used when polls have to be shed; events without one are NORMAL
+    default void setPriority(String eventId, EventPriority priority) {
+    }
+}
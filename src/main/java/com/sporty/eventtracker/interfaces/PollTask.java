@@ -0,0 +1,24 @@
+package com.sporty.eventtracker.interfaces;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * A poll handed to the poll executor whose work can go on after run() returns, e.g. while it
+ * waits for a rate-limit permit. An executor that caps concurrent polls keeps the poll's slot
+ * until the returned future settles.
+ */
+@FunctionalInterface
+public interface PollTask extends Runnable {
+
+    CompletableFuture<Void> start();
+
+    @Override
+    default void run() {
+        start();
+    }
+
+    static PollTask of(Supplier<CompletableFuture<Void>> poll) {
+        return poll::get;
+    }
+}
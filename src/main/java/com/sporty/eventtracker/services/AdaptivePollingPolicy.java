@@ -0,0 +1,166 @@
+package com.sporty.eventtracker.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Adapts each event's polling interval to how often its score changes.
+ * A score change resets the interval to min-interval; every unchanged poll multiplies it
+ * by the backoff factor, up to max-interval.
+ *
+ * Schedulers keep waking every min-interval and the polling service skips events that are
+ * not due yet, so no per-event task has to be rescheduled. An interval is only used up by a
+ * poll that is actually sent: the polling service checks {@link #isDue} first and calls
+ * {@link #markPolled} once its other gates admitted the poll.
+ */
+@Component
+public class AdaptivePollingPolicy {
+
+    private final Map<String, PollState> states = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final long minIntervalMillis;
+    private final long maxIntervalMillis;
+    private final double backoffMultiplier;
+    private final LongSupplier clock;
+
+    private final Counter deferred;
+
+    @Autowired
+    public AdaptivePollingPolicy(MeterRegistry meterRegistry,
+                                 @Value("${app.scheduling.adaptive.enabled:false}") boolean enabled,
+                                 @Value("${app.scheduling.adaptive.min-interval-ms:5000}") long minIntervalMillis,
+                                 @Value("${app.scheduling.adaptive.max-interval-ms:60000}") long maxIntervalMillis,
+                                 @Value("${app.scheduling.adaptive.backoff-multiplier:2.0}") double backoffMultiplier) {
+        this(meterRegistry, enabled, minIntervalMillis, maxIntervalMillis, backoffMultiplier, System::currentTimeMillis);
+    }
+
+    AdaptivePollingPolicy(MeterRegistry meterRegistry, boolean enabled, long minIntervalMillis,
+                          long maxIntervalMillis, double backoffMultiplier, LongSupplier clock) {
+        this.enabled = enabled;
+        this.minIntervalMillis = Math.max(1, minIntervalMillis);
+        this.maxIntervalMillis = Math.max(this.minIntervalMillis, maxIntervalMillis);
+        this.backoffMultiplier = Math.max(1.0, backoffMultiplier);
+        this.clock = clock;
+        this.deferred = Counter.builder("tracker.poll.deferred")
+                .description("Polls skipped because the event's adaptive interval had not elapsed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * How often a scheduler has to wake up: min-interval when adaptive, otherwise its own fixed interval.
+     */
+    public Duration tickInterval(Duration fixedInterval) {
+        return enabled ? Duration.ofMillis(minIntervalMillis) : fixedInterval;
+    }
+
+    /**
+     * Starts adapting the event's interval; called when tracking starts. Due at once.
+     */
+    public void track(String eventId) {
+        if (enabled) {
+            states.putIfAbsent(eventId, new PollState(Long.MIN_VALUE, minIntervalMillis));
+        }
+    }
+
+    /**
+     * Returns true if the event's interval has elapsed, without using it up; always true when
+     * disabled or for an event whose tracking was not started.
+     */
+    public boolean isDue(String eventId) {
+        if (!enabled) {
+            return true;
+        }
+        PollState state = states.get(eventId);
+        // Half a tick of slack, so scheduler jitter does not push a due event to the next tick
+        if (state == null || clock.getAsLong() + minIntervalMillis / 2 >= state.lastPolledAt + state.intervalMillis) {
+            return true;
+        }
+        deferred.increment();
+        return false;
+    }
+
+    /**
+     * Starts the event's next interval; called once the poll is admitted.
+     */
+    public void markPolled(String eventId) {
+        if (!enabled) {
+            return;
+        }
+        long now = clock.getAsLong();
+        // computeIfPresent: a poll admitted after stopTracking must not resurrect the entry
+        states.computeIfPresent(eventId, (id, state) -> {
+            state.lastPolledAt = now;
+            return state;
+        });
+    }
+
+    /**
+     * Keeps the events that are due, in order, without marking them polled.
+     */
+    public List<String> due(List<String> eventIds) {
+        if (!enabled) {
+            return eventIds;
+        }
+        List<String> due = new ArrayList<>(eventIds.size());
+        for (String eventId : eventIds) {
+            if (isDue(eventId)) {
+                due.add(eventId);
+            }
+        }
+        return due;
+    }
+
+    /**
+     * Feeds a polled score back: a change resets the interval, an unchanged score backs it off.
+     */
+    public void onScore(String eventId, String score) {
+        if (!enabled) {
+            return;
+        }
+        // computeIfPresent: a response arriving after stopTracking must not resurrect the entry
+        states.computeIfPresent(eventId, (id, state) -> {
+            if (Objects.equals(state.score, score)) {
+                state.intervalMillis = Math.min(maxIntervalMillis, (long) (state.intervalMillis * backoffMultiplier));
+            } else {
+                state.score = score;
+                state.intervalMillis = minIntervalMillis;
+            }
+            return state;
+        });
+    }
+
+    /**
+     * Current interval for an event, or min-interval if it has not been polled yet.
+     */
+    public Duration currentInterval(String eventId) {
+        PollState state = states.get(eventId);
+        return Duration.ofMillis(state == null ? minIntervalMillis : state.intervalMillis);
+    }
+
+    public void evict(String eventId) {
+        states.remove(eventId);
+    }
+
+    // Mutated only inside ConcurrentHashMap.compute, which serializes access per event; isDue reads without it
+    private static final class PollState {
+        private volatile long lastPolledAt; // Long.MIN_VALUE until the first poll
+        private volatile long intervalMillis;
+        private String score;
+
+        PollState(long lastPolledAt, long intervalMillis) {
+            this.lastPolledAt = lastPolledAt;
+            this.intervalMillis = intervalMillis;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.sporty.eventtracker.services;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking upstream client: requests go out on the shared JDK HttpClient
+ * (pooled keep-alive connections, HTTP/2 where the upstream supports it) and no thread
+ * is held while waiting for the response.
+ */
+@Component
+@ConditionalOnProperty(name = "app.external-api.client", havingValue = "async")
+public class AsyncScoreApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5); // Same budget as RestConfig
+    private static final TypeReference<Map<String, String>> SCORE_TYPE = new TypeReference<>() {};
+    private static final TypeReference<List<Map<String, String>>> SCORES_TYPE = new TypeReference<>() {};
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String externalApiUrl;
+    private final String batchApiUrl;
+
+    public AsyncScoreApiClient(HttpClient scoreHttpClient,
+                               ObjectMapper objectMapper,
+                               @Value("${app.external-api.url:http://localhost:8080/mock-api/score/}") String externalApiUrl,
+                               @Value("${app.external-api.batch.url:http://localhost:8080/mock-api/scores}") String batchApiUrl) {
+        this.httpClient = scoreHttpClient;
+        this.objectMapper = objectMapper;
+        this.externalApiUrl = externalApiUrl;
+        this.batchApiUrl = batchApiUrl;
+    }
+
+    /**
+     * Completes with the parsed body, or exceptionally on transport errors and non-2xx responses.
+     */
+    public CompletableFuture<Map<String, String>> fetchScore(String eventId) {
+        return send(URI.create(externalApiUrl + eventId))
+                .thenApply(body -> read(body, SCORE_TYPE, Map.of()));
+    }
+
+    /**
+     * Conditional variant of {@link #fetchScore}: sends the given validator headers and completes
+     * with a bodiless 304 entity when the score is unchanged. Full responses carry the upstream's
+     * headers, with Content-Length set to the body size actually received.
+     */
+    public CompletableFuture<ResponseEntity<Map<String, String>>> fetchScoreIfModified(String eventId, HttpHeaders conditionalHeaders) {
+        HttpRequest.Builder request = request(URI.create(externalApiUrl + eventId));
+        conditionalHeaders.forEach((name, values) -> values.forEach(value -> request.header(name, value)));
+
+        return httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> {
+                    HttpHeaders headers = new HttpHeaders();
+                    response.headers().map().forEach(headers::addAll);
+                    if (response.statusCode() == HttpStatus.NOT_MODIFIED.value()) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).<Map<String, String>>build();
+                    }
+                    byte[] body = checkedBody(response);
+                    headers.setContentLength(body.length);
+                    return ResponseEntity.ok().headers(headers).body(read(body, SCORE_TYPE, Map.of()));
+                });
+    }
+
+    /**
+     * One request for many events: GET {batchUrl}?ids=a,b,c
+     */
+    public CompletableFuture<List<Map<String, String>>> fetchScores(List<String> eventIds) {
+        String ids = URLEncoder.encode(String.join(",", eventIds), StandardCharsets.UTF_8);
+        return send(URI.create(batchApiUrl + "?ids=" + ids))
+                .thenApply(body -> read(body, SCORES_TYPE, List.of()));
+    }
+
+    private CompletableFuture<byte[]> send(URI uri) {
+        return httpClient.sendAsync(request(uri).build(), HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(AsyncScoreApiClient::checkedBody);
+    }
+
+    private static HttpRequest.Builder request(URI uri) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .GET();
+    }
+
+    private static byte[] checkedBody(HttpResponse<byte[]> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw statusError(response);
+        }
+        return response.body() == null ? new byte[0] : response.body();
+    }
+
+    // Same exception types RestTemplate raises, so callers classify both clients alike
+    private static RuntimeException statusError(HttpResponse<byte[]> response) {
+        HttpStatusCode status = HttpStatusCode.valueOf(response.statusCode());
+        String text = "Upstream returned HTTP " + response.statusCode();
+        if (status.is4xxClientError()) {
+            return HttpClientErrorException.create(status, text, HttpHeaders.EMPTY, response.body(), null);
+        }
+        if (status.is5xxServerError()) {
+            return HttpServerErrorException.create(status, text, HttpHeaders.EMPTY, response.body(), null);
+        }
+        return new IllegalStateException(text);
+    }
+
+    private <T> T read(byte[] body, TypeReference<T> type, T empty) {
+        if (body.length == 0) {
+            return empty;
+        }
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unreadable score payload", e);
+        }
+    }
+}
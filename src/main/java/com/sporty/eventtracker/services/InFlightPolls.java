@@ -0,0 +1,59 @@
+package com.sporty.eventtracker.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Admits at most one poll per event at a time. When the upstream slows down, a tick can fire
+ * again before the previous poll for the same event returned; that second request would
+ * fetch the same score and only add load, so it is skipped instead.
+ */
+final class InFlightPolls {
+
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final Counter skipped;
+
+    InFlightPolls(MeterRegistry meterRegistry) {
+        this.skipped = Counter.builder("tracker.poll.inflight.skipped")
+                .description("Polls skipped because one for the same event was still in flight")
+                .register(meterRegistry);
+        Gauge.builder("tracker.poll.inflight", inFlight, Set::size)
+                .description("Events with a poll currently in flight")
+                .register(meterRegistry);
+    }
+
+    boolean tryAdmit(String eventId) {
+        if (inFlight.add(eventId)) {
+            return true;
+        }
+        skipped.increment();
+        return false;
+    }
+
+    /**
+     * Admits the events not already in flight; duplicates within the list are admitted once.
+     */
+    List<String> admitAll(List<String> eventIds) {
+        List<String> admitted = new ArrayList<>(eventIds.size());
+        for (String eventId : eventIds) {
+            if (tryAdmit(eventId)) {
+                admitted.add(eventId);
+            }
+        }
+        return admitted;
+    }
+
+    void release(String eventId) {
+        inFlight.remove(eventId);
+    }
+
+    void releaseAll(List<String> eventIds) {
+        eventIds.forEach(inFlight::remove);
+    }
+}
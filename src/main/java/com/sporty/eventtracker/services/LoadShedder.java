@@ -0,0 +1,226 @@
+package com.sporty.eventtracker.services;
+
+import com.sporty.eventtracker.dto.EventPriority;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps poll capacity for high-priority events when the tracker is overloaded.
+ *
+ * Every evaluate-interval-ms the mean schedule lag and the upstream error rate since the
+ * previous evaluation are compared to their thresholds; the worse ratio is the severity.
+ * At 1x a threshold the level is STRETCH: LOW events are polled one round in stretch-factor.
+ * At 2x it is SHED: LOW events are not polled at all and NORMAL events are stretched. HIGH
+ * events are never skipped. A level is entered as soon as it is reached, and left one step
+ * per evaluation, so a single good second does not bring the whole load back.
+ *
+ * A round is one fixed-rate interval. Which round a stretched event is polled in follows from
+ * its id, so the stretched events are spread evenly and no per-event state is kept.
+ */
+@Component
+@ConditionalOnProperty(name = "app.shedding.enabled", havingValue = "true")
+public class LoadShedder {
+
+    public enum Level { NORMAL, STRETCH, SHED }
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadShedder.class);
+
+    private final Map<String, EventPriority> priorities = new ConcurrentHashMap<>(); // NORMAL events are not stored
+    private final MeterRegistry meterRegistry;
+    private final long roundMillis;
+    private final long lagThresholdMillis;
+    private final double errorRateThreshold;
+    private final long minRequests;
+    private final int stretchFactor;
+    private final LongSupplier clock;
+
+    private volatile Level level = Level.NORMAL;
+
+    // Meter totals at the previous evaluation; only touched by evaluate(), whose runs never overlap
+    private long lastLagCount;
+    private double lastLagMillis;
+    private double lastErrors;
+    private double lastSuccesses;
+
+    private final Map<EventPriority, Counter> shed = new EnumMap<>(EventPriority.class);
+    private final Map<EventPriority, Counter> stretched = new EnumMap<>(EventPriority.class);
+
+    @Autowired
+    public LoadShedder(MeterRegistry meterRegistry,
+                       @Value("${app.scheduling.fixed-rate}") long fixedRateMillis,
+                       @Value("${app.shedding.lag-threshold-ms:2000}") long lagThresholdMillis,
+                       @Value("${app.shedding.error-rate-threshold:0.2}") double errorRateThreshold,
+                       @Value("${app.shedding.min-requests:20}") long minRequests,
+                       @Value("${app.shedding.stretch-factor:3}") int stretchFactor) {
+        this(meterRegistry, fixedRateMillis, lagThresholdMillis, errorRateThreshold, minRequests, stretchFactor,
+                System::currentTimeMillis);
+    }
+
+    LoadShedder(MeterRegistry meterRegistry, long fixedRateMillis, long lagThresholdMillis, double errorRateThreshold,
+                long minRequests, int stretchFactor, LongSupplier clock) {
+        this.meterRegistry = meterRegistry;
+        this.roundMillis = Math.max(1, fixedRateMillis);
+        this.lagThresholdMillis = lagThresholdMillis;
+        this.errorRateThreshold = errorRateThreshold;
+        this.minRequests = Math.max(1, minRequests);
+        this.stretchFactor = Math.max(2, stretchFactor);
+        this.clock = clock;
+
+        Gauge.builder("tracker.shedding.level", this, shedder -> shedder.level().ordinal())
+                .description("Load shedding: 0 = normal, 1 = low tier stretched, 2 = low tier shed and normal tier stretched")
+                .register(meterRegistry);
+        for (EventPriority tier : List.of(EventPriority.NORMAL, EventPriority.LOW)) {
+            shed.put(tier, skipped(meterRegistry, tier, "shed"));
+            stretched.put(tier, skipped(meterRegistry, tier, "stretched"));
+        }
+    }
+
+    private static Counter skipped(MeterRegistry meterRegistry, EventPriority tier, String reason) {
+        return Counter.builder("tracker.shedding.skipped")
+                .description("Polls skipped to keep capacity for higher-priority events")
+                .tag("tier", tier.name().toLowerCase())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    public Level level() {
+        return level;
+    }
+
+    public void setPriority(String eventId, EventPriority priority) {
+        if (priority == null || priority == EventPriority.NORMAL) {
+            priorities.remove(eventId);
+        } else {
+            priorities.put(eventId, priority);
+        }
+    }
+
+    public EventPriority priority(String eventId) {
+        return priorities.getOrDefault(eventId, EventPriority.NORMAL);
+    }
+
+    public void evict(String eventId) {
+        priorities.remove(eventId);
+    }
+
+    /**
+     * Returns false if the event's poll is skipped at the current level, and counts it.
+     */
+    public boolean shouldPoll(String eventId) {
+        Level current = level;
+        if (current == Level.NORMAL) {
+            return true;
+        }
+        EventPriority tier = priority(eventId);
+        if (tier == EventPriority.HIGH || (tier == EventPriority.NORMAL && current == Level.STRETCH)) {
+            return true;
+        }
+        if (tier == EventPriority.LOW && current == Level.SHED) {
+            shed.get(tier).increment();
+            return false;
+        }
+        if (Math.floorMod(clock.getAsLong() / roundMillis + eventId.hashCode(), stretchFactor) == 0) {
+            return true;
+        }
+        stretched.get(tier).increment();
+        return false;
+    }
+
+    /**
+     * Keeps the events that are polled at the current level, in order.
+     */
+    public List<String> admit(List<String> eventIds) {
+        if (level == Level.NORMAL) {
+            return eventIds;
+        }
+        List<String> admitted = new ArrayList<>(eventIds.size());
+        for (String eventId : eventIds) {
+            if (shouldPoll(eventId)) {
+                admitted.add(eventId);
+            }
+        }
+        return admitted;
+    }
+
+    /**
+     * Sorts events HIGH first and LOW last, keeping the order within a tier, so a tick that
+     * runs out of time runs out on the lower tiers.
+     */
+    public void sortByPriority(List<String> eventIds) {
+        if (!priorities.isEmpty()) {
+            eventIds.sort(Comparator.comparing(this::priority));
+        }
+    }
+
+    @Scheduled(fixedRateString = "${app.shedding.evaluate-interval-ms:1000}")
+    public void evaluate() {
+        double severity = Math.max(lagSeverity(), errorSeverity());
+        Level target = severity >= 2 ? Level.SHED : severity >= 1 ? Level.STRETCH : Level.NORMAL;
+        Level current = level;
+        Level next = target.compareTo(current) >= 0 ? target : Level.values()[current.ordinal() - 1];
+        if (next != current) {
+            level = next;
+            logger.warn("Load shedding level {} -> {} (severity {})", current, next, String.format("%.2f", severity));
+        }
+    }
+
+    // Mean lag of the ticks and per-event runs that fired since the last evaluation
+    private double lagSeverity() {
+        long count = 0;
+        double totalMillis = 0;
+        for (Timer lag : meterRegistry.find("tracker.schedule.lag").timers()) {
+            count += lag.count();
+            totalMillis += lag.totalTime(TimeUnit.MILLISECONDS);
+        }
+        long fired = count - lastLagCount;
+        double lateMillis = totalMillis - lastLagMillis;
+        lastLagCount = count;
+        lastLagMillis = totalMillis;
+        if (fired <= 0 || lagThresholdMillis <= 0) {
+            return 0;
+        }
+        return lateMillis / fired / lagThresholdMillis;
+    }
+
+    // Failed upstream requests, and calls the open circuit breaker failed fast, over all attempts
+    private double errorSeverity() {
+        double errors = 0;
+        double successes = 0;
+        for (Timer latency : meterRegistry.find("tracker.poll.latency").timers()) {
+            if ("error".equals(latency.getId().getTag("outcome"))) {
+                errors += latency.count();
+            } else {
+                successes += latency.count();
+            }
+        }
+        for (Counter rejected : meterRegistry.find("tracker.upstream.rejected").tag("reason", "breaker-open").counters()) {
+            errors += rejected.count();
+        }
+        double newErrors = errors - lastErrors;
+        double requests = newErrors + successes - lastSuccesses;
+        lastErrors = errors;
+        lastSuccesses = successes;
+        if (requests < minRequests || errorRateThreshold <= 0) {
+            return 0;
+        }
+        return newErrors / requests / errorRateThreshold;
+    }
+}
@@ -0,0 +1,101 @@
+package com.sporty.eventtracker.services;
+
+import com.sporty.eventtracker.interfaces.PollTask;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Coalesces per-event polls that fall due close together into batch requests.
+ * Used by the dynamic scheduler, whose events have no shared tick: a due poll waits at most
+ * linger-ms, or less if a full batch builds up first.
+ */
+@Component
+@ConditionalOnProperty(name = "app.external-api.batch.enabled", havingValue = "true")
+public class PollCoalescer {
+
+    private static final Logger logger = LoggerFactory.getLogger(PollCoalescer.class);
+
+    private final ScorePollingService pollingService;
+    private final TaskScheduler taskScheduler;
+    private final TaskExecutor pollExecutor;
+    private final Duration linger;
+
+    private final Queue<String> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private ScheduledFuture<?> flusher;
+
+    public PollCoalescer(ScorePollingService pollingService,
+                         TaskScheduler taskScheduler,
+                         @Qualifier("pollExecutor") TaskExecutor pollExecutor,
+                         MeterRegistry meterRegistry,
+                         @Value("${app.external-api.batch.linger-ms:200}") long lingerMillis) {
+        this.pollingService = pollingService;
+        this.taskScheduler = taskScheduler;
+        this.pollExecutor = pollExecutor;
+        this.linger = Duration.ofMillis(lingerMillis);
+        Gauge.builder("tracker.poll.coalescer.pending", pendingCount, AtomicInteger::get)
+                .description("Due polls waiting to be flushed as a batch")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher = taskScheduler.scheduleAtFixedRate(this::flush, linger);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (flusher != null) {
+            flusher.cancel(false);
+        }
+    }
+
+    public void submit(String eventId) {
+        pending.add(eventId);
+        if (pendingCount.incrementAndGet() >= pollingService.maxBatchSize()) {
+            flush();
+        }
+    }
+
+    public void flush() {
+        List<String> batch;
+        while (!(batch = drain()).isEmpty()) {
+            List<String> toPoll = batch;
+            logger.debug("Flushing {} coalesced polls", toPoll.size());
+            pollExecutor.execute(PollTask.of(() -> pollingService.pollEvents(toPoll)));
+        }
+    }
+
+    private List<String> drain() {
+        int max = pollingService.maxBatchSize();
+        List<String> batch = new ArrayList<>(Math.min(max, Math.max(pendingCount.get(), 0)));
+        String eventId;
+        while (batch.size() < max && (eventId = pending.poll()) != null) {
+            batch.add(eventId);
+        }
+        pendingCount.addAndGet(-batch.size());
+        return batch;
+    }
+
+    public int pending() {
+        return pendingCount.get();
+    }
+}
@@ -0,0 +1,148 @@
+package com.sporty.eventtracker.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-poll log lines of {@link ScorePollingService}. In the default 'standard' mode every
+ * success is logged. In 'production' mode (app.logging.mode) success lines are capped at
+ * success-per-second, and each line that gets through counts the ones left out. An
+ * unexpected error's stack trace is printed once per stack-trace-window-ms; repeats in the
+ * window get a single line. Failures always get a log line.
+ */
+@Component
+public class PollLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScorePollingService.class);
+    private static final int MAX_TRACKED_FAILURES = 1000; // Distinct failure signatures remembered
+
+    private final boolean production;
+    private final int successPerSecond;
+    private final long stackTraceWindowMillis;
+    private final LongSupplier clock;
+
+    // Fixed one-second window for success lines
+    private final AtomicLong windowSecond = new AtomicLong();
+    private final AtomicInteger windowCount = new AtomicInteger();
+    private final AtomicLong suppressedSuccesses = new AtomicLong();
+
+    private final Map<String, Long> lastStackTrace = new ConcurrentHashMap<>(); // Signature -> epoch millis
+    private final Counter successesSuppressed;
+    private final Counter stackTracesCollapsed;
+
+    @Autowired
+    public PollLog(MeterRegistry meterRegistry,
+                   @Value("${app.logging.mode:standard}") String mode,
+                   @Value("${app.logging.success-per-second:10}") int successPerSecond,
+                   @Value("${app.logging.stack-trace-window-ms:60000}") long stackTraceWindowMillis) {
+        this(meterRegistry, mode, successPerSecond, stackTraceWindowMillis, System::currentTimeMillis);
+    }
+
+    PollLog(MeterRegistry meterRegistry, String mode, int successPerSecond, long stackTraceWindowMillis, LongSupplier clock) {
+        this.production = "production".equals(mode);
+        this.successPerSecond = successPerSecond;
+        this.stackTraceWindowMillis = stackTraceWindowMillis;
+        this.clock = clock;
+        this.successesSuppressed = Counter.builder("tracker.logging.suppressed")
+                .description("Log lines left out in production logging mode")
+                .tag("kind", "success")
+                .register(meterRegistry);
+        this.stackTracesCollapsed = Counter.builder("tracker.logging.suppressed")
+                .description("Log lines left out in production logging mode")
+                .tag("kind", "stack-trace")
+                .register(meterRegistry);
+    }
+
+    public void success(String eventId) {
+        if (!production) {
+            logger.info("Successfully polled and published score for event: {}", eventId);
+            return;
+        }
+        if (!logger.isInfoEnabled() || !admitSuccess()) {
+            return;
+        }
+        long suppressed = suppressedSuccesses.getAndSet(0);
+        if (suppressed > 0) {
+            logger.info("Successfully polled and published score for event: {} ({} more not logged)", eventId, suppressed);
+        } else {
+            logger.info("Successfully polled and published score for event: {}", eventId);
+        }
+    }
+
+    /**
+     * Keeps an upstream outage from flooding the log: fast-failed calls are debug-only and
+     * expected HTTP/IO errors are one warn line each; only unexpected errors carry a stack trace.
+     */
+    public void failure(String message, Throwable ex) {
+        Throwable cause = unwrap(ex);
+        if (cause instanceof UpstreamRejectedException rejected) {
+            logger.debug("{}: {}", message, rejected.getMessage());
+        } else if (cause instanceof RestClientException || cause instanceof IOException) {
+            logger.warn("{}: {}", message, cause.getMessage());
+        } else if (production && !firstInWindow(cause)) {
+            stackTracesCollapsed.increment();
+            logger.error("{}: {} (repeated, stack trace omitted)", message, cause.getMessage());
+        } else {
+            logger.error("{}: {}", message, cause.getMessage(), cause);
+        }
+    }
+
+    static Throwable unwrap(Throwable ex) {
+        while ((ex instanceof CompletionException || ex instanceof ExecutionException) && ex.getCause() != null) {
+            ex = ex.getCause();
+        }
+        return ex;
+    }
+
+    private boolean admitSuccess() {
+        if (successPerSecond <= 0) {
+            return true;
+        }
+        long second = clock.getAsLong() / 1000;
+        long current = windowSecond.get();
+        if (second != current && windowSecond.compareAndSet(current, second)) {
+            windowCount.set(0);
+        }
+        if (windowCount.incrementAndGet() <= successPerSecond) {
+            return true;
+        }
+        suppressedSuccesses.incrementAndGet();
+        successesSuppressed.increment();
+        return false;
+    }
+
+    // Same exception type, message and throwing frame within the window count as one failure
+    private boolean firstInWindow(Throwable cause) {
+        StackTraceElement[] stack = cause.getStackTrace();
+        String signature = cause.getClass().getName() + ':' + cause.getMessage()
+                + (stack.length > 0 ? '@' + stack[0].toString() : "");
+        long now = clock.getAsLong();
+        if (lastStackTrace.size() >= MAX_TRACKED_FAILURES) {
+            lastStackTrace.clear();
+        }
+        boolean[] first = {false};
+        lastStackTrace.compute(signature, (key, last) -> {
+            if (last == null || now - last >= stackTraceWindowMillis) {
+                first[0] = true;
+                return now;
+            }
+            return last;
+        });
+        return first[0];
+    }
+}
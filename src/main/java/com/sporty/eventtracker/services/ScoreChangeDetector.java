@@ -0,0 +1,120 @@
+package com.sporty.eventtracker.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the last score published per event so unchanged polls are not republished to Kafka.
+ * An optional heartbeat still republishes an unchanged score every N polls.
+ *
+ * Entries are created when tracking starts and evicted when it stops; a poll that completes
+ * after the stop cannot bring one back. Events without an entry (not started, or started
+ * while the cache was full) are published unconditionally rather than suppressed.
+ */
+@Component
+public class ScoreChangeDetector {
+
+    private final Map<String, LastPublished> lastPublished = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final int heartbeatIntervals;
+    private final int maxEvents;
+
+    private final Counter published;
+    private final Counter suppressed;
+
+    public ScoreChangeDetector(MeterRegistry meterRegistry,
+                               @Value("${app.publishing.change-detection:true}") boolean enabled,
+                               @Value("${app.publishing.heartbeat-intervals:0}") int heartbeatIntervals,
+                               @Value("${app.publishing.cache-max-events:100000}") int maxEvents) {
+        this.enabled = enabled;
+        this.heartbeatIntervals = heartbeatIntervals;
+        this.maxEvents = maxEvents;
+        this.published = Counter.builder("tracker.publish.published")
+                .description("Score updates handed to Kafka")
+                .register(meterRegistry);
+        this.suppressed = Counter.builder("tracker.publish.suppressed")
+                .description("Polls whose score was unchanged and not republished")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts remembering the event's published score; called when tracking starts.
+     */
+    public void track(String eventId) {
+        if (enabled && lastPublished.size() < maxEvents) {
+            lastPublished.putIfAbsent(eventId, new LastPublished(null));
+        }
+    }
+
+    /**
+     * Records the polled score and decides whether it has to be published. The score counts as
+     * published once {@link #onSendComplete} confirms the send.
+     */
+    public boolean shouldPublish(String eventId, String score) {
+        if (!enabled || eventId == null) {
+            return true;
+        }
+
+        boolean[] publish = {true}; // No entry: fail open, and do not create one
+        // computeIfPresent: a response arriving after stopTracking must not resurrect the entry
+        lastPublished.computeIfPresent(eventId, (id, last) -> {
+            publish[0] = false;
+            if (!Objects.equals(last.score, score)) {
+                last.score = score;
+                last.unchangedPolls = 0;
+                publish[0] = true;
+            } else if (heartbeatIntervals > 0 && ++last.unchangedPolls >= heartbeatIntervals) {
+                last.unchangedPolls = 0;
+                publish[0] = true;
+            }
+            return last;
+        });
+
+        if (!publish[0]) {
+            suppressed.increment();
+        }
+        return publish[0];
+    }
+
+    /**
+     * Counts an acknowledged send. A dropped or failed one forgets the score it recorded, so the
+     * next poll publishes it again instead of suppressing it as unchanged.
+     */
+    public void onSendComplete(String eventId, String score, boolean sent) {
+        if (sent) {
+            published.increment();
+            return;
+        }
+        lastPublished.computeIfPresent(eventId, (id, last) -> {
+            if (Objects.equals(last.score, score)) {
+                last.score = null;
+                last.unchangedPolls = 0;
+            }
+            return last;
+        });
+    }
+
+    public void evict(String eventId) {
+        lastPublished.remove(eventId);
+    }
+
+    public int size() {
+        return lastPublished.size();
+    }
+
+    // Mutated only inside ConcurrentHashMap.compute, which serializes access per event
+    private static final class LastPublished {
+        private String score;
+        private int unchangedPolls;
+
+        LastPublished(String score) {
+            this.score = score;
+        }
+    }
+}
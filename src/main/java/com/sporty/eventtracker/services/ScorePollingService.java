@@ -1,53 +1,447 @@
 package com.sporty.eventtracker.services;
 
+import com.sporty.eventtracker.dto.EventPriority;
+import com.sporty.eventtracker.dto.ScoreUpdate;
+import com.sporty.eventtracker.services.fanout.ScoreFanout;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @Service
 public class ScorePollingService {
 
     private static final Logger logger = LoggerFactory.getLogger(ScorePollingService.class);
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+    private static final ParameterizedTypeReference<Map<String, String>> SCORE_TYPE = new ParameterizedTypeReference<>() {};
+    private static final Map<String, String> NOT_MODIFIED = Collections.unmodifiableMap(new HashMap<>()); // Compared by identity
+
     private final RestTemplate restTemplate;
     private final ScoreUpdateProducer producer;
+    private final ScoreChangeDetector changeDetector;
+    private final UpstreamValidators validators;
+    private final PollLog pollLog;
+    private final AdaptivePollingPolicy adaptivePolicy;
+    private final UpstreamGuard upstreamGuard;
     private final String externalApiUrl;
+    private final AsyncScoreApiClient asyncClient; // Only present when app.external-api.client=async
+    private final String batchApiUrl;
+    private final int maxBatchSize; // 1 = batching disabled
+    private final ScoreFanout fanout; // Only present when SSE score streams are enabled
+    private final LoadShedder loadShedder; // Only present when app.shedding.enabled=true
+    private final UpstreamRateLimiter rateLimiter; // Only present when app.external-api.rate-limit.enabled=true
+    private final Counter shedPolls;
+    private final Counter batchMissing;
+    private final Counter batchUnexpected;
+    private final InFlightPolls inFlight;
+
+    // Upstream request latency by request kind and outcome
+    private final Timer singleSuccess;
+    private final Timer singleError;
+    private final Timer batchSuccess;
+    private final Timer batchError;
 
     public ScorePollingService(RestTemplate restTemplate, 
                                ScoreUpdateProducer producer,
-                               @Value("${app.external-api.url:http://localhost:8080/mock-api/score/}") String externalApiUrl) {
+                               ScoreChangeDetector changeDetector,
+                               UpstreamValidators validators,
+                               PollLog pollLog,
+                               AdaptivePollingPolicy adaptivePolicy,
+                               UpstreamGuard upstreamGuard,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.external-api.url:http://localhost:8080/mock-api/score/}") String externalApiUrl,
+                               @Nullable AsyncScoreApiClient asyncClient,
+                               @Value("${app.external-api.batch.url:http://localhost:8080/mock-api/scores}") String batchApiUrl,
+                               @Value("${app.external-api.batch.enabled:false}") boolean batchEnabled,
+                               @Value("${app.external-api.batch.max-size:100}") int maxBatchSize,
+                               @Nullable ScoreFanout fanout,
+                               @Nullable LoadShedder loadShedder,
+                               @Nullable UpstreamRateLimiter rateLimiter) {
         this.restTemplate = restTemplate;
         this.producer = producer;
+        this.changeDetector = changeDetector;
+        this.validators = validators;
+        this.pollLog = pollLog;
+        this.adaptivePolicy = adaptivePolicy;
+        this.upstreamGuard = upstreamGuard;
         this.externalApiUrl = externalApiUrl;
+        this.asyncClient = asyncClient;
+        this.batchApiUrl = batchApiUrl;
+        this.maxBatchSize = batchEnabled ? Math.max(1, maxBatchSize) : 1;
+        this.fanout = fanout;
+        this.loadShedder = loadShedder;
+        this.rateLimiter = rateLimiter;
+        this.shedPolls = Counter.builder("tracker.poll.shed")
+                .description("Polls skipped because Kafka could not keep up")
+                .tag("reason", "kafka-backpressure")
+                .register(meterRegistry);
+        this.batchMissing = batchMismatch(meterRegistry, "missing");
+        this.batchUnexpected = batchMismatch(meterRegistry, "unexpected");
+        this.inFlight = new InFlightPolls(meterRegistry);
+        this.singleSuccess = pollLatency(meterRegistry, "single", "success");
+        this.singleError = pollLatency(meterRegistry, "single", "error");
+        this.batchSuccess = pollLatency(meterRegistry, "batch", "success");
+        this.batchError = pollLatency(meterRegistry, "batch", "error");
+    }
+
+    private static Timer pollLatency(MeterRegistry meterRegistry, String request, String outcome) {
+        return Timer.builder("tracker.poll.latency")
+                .description("Upstream score API request latency")
+                .tag("request", request)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Counter batchMismatch(MeterRegistry meterRegistry, String kind) {
+        return Counter.builder("tracker.poll.batch.mismatch")
+                .description("Event ids of a batch response that did not match the requested ones")
+                .tag("kind", kind)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Most events a scheduler should group into one {@link #pollEvents} call; 1 when batching is off.
+     */
+    public int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Sets the tier load shedding uses for the event; ignored when shedding is disabled.
+     */
+    public void setPriority(String eventId, EventPriority priority) {
+        if (loadShedder != null) {
+            loadShedder.setPriority(eventId, priority);
+        }
+    }
+
+    /**
+     * Sorts events HIGH first, in place, for schedulers that walk many events in one tick.
+     */
+    public void sortByPriority(List<String> eventIds) {
+        if (loadShedder != null) {
+            loadShedder.sortByPriority(eventIds);
+        }
+    }
+
+    /**
+     * Creates per-event polling state; schedulers call it before an event's first poll.
+     */
+    public void onTrackingStarted(String eventId) {
+        changeDetector.track(eventId);
+        validators.track(eventId);
+        adaptivePolicy.track(eventId);
+        if (fanout != null) {
+            fanout.track(eventId);
+        }
+    }
+
+    /**
+     * Drops per-event polling state once an event is no longer tracked.
+     */
+    public void onTrackingStopped(String eventId) {
+        changeDetector.evict(eventId);
+        validators.evict(eventId);
+        adaptivePolicy.evict(eventId);
+        if (fanout != null) {
+            fanout.evict(eventId);
+        }
+        if (loadShedder != null) {
+            loadShedder.evict(eventId);
+        }
     }
 
     /**
      * This method contains the core business logic for a single poll.
+     * With the blocking client the returned future is already complete; with the async client
+     * it completes once the score has been handed to the producer (never exceptionally).
+     * Events shed under overload, whose adaptive interval has not elapsed yet, or whose
+     * previous poll is still in flight, are skipped.
      */
-    public void pollSingleEvent(String eventId) {
+    public CompletableFuture<Void> pollSingleEvent(String eventId) {
+        if ((loadShedder != null && !loadShedder.shouldPoll(eventId)) || !adaptivePolicy.isDue(eventId) || shedForBackpressure(1) || !inFlight.tryAdmit(eventId)) {
+            return DONE;
+        }
+        adaptivePolicy.markPolled(eventId); // Only a poll that is sent uses up the interval
+        CompletableFuture<Void> poll = paced(priority(eventId), () -> asyncClient != null
+                ? pollSingleEventAsync(eventId)
+                : pollSingleEventBlocking(eventId));
+        return whenSettled(poll, () -> inFlight.release(eventId));
+    }
+
+    // Holds an upstream request until the rate limiter's permit is due, without holding a thread:
+    // a request whose permit is due later is sent as its own task on the limiter's resume executor
+    private CompletableFuture<Void> paced(EventPriority tier, Supplier<CompletableFuture<Void>> request) {
+        if (rateLimiter == null) {
+            return request.get();
+        }
+        return rateLimiter.acquire(tier).thenCompose(ignored -> request.get());
+    }
+
+    // Tiers are only kept while load shedding is enabled; without it every poll is NORMAL
+    private EventPriority priority(String eventId) {
+        return loadShedder != null ? loadShedder.priority(eventId) : EventPriority.NORMAL;
+    }
+
+    // A batch waits in the queue of its highest tier
+    private EventPriority priority(List<String> eventIds) {
+        return eventIds.stream().map(this::priority).min(Comparator.naturalOrder()).orElse(EventPriority.NORMAL);
+    }
+
+    private CompletableFuture<Void> pollSingleEventBlocking(String eventId) {
         String fullUrl = externalApiUrl + eventId;
         logger.debug("Starting poll for event: {}", eventId);
 
+        long startNanos = System.nanoTime();
+        boolean fetched = false;
         try {
             // Call External API
-            // Structure: { "eventId": "1234", "currentScore": "0:0" }
-            Map<String, String> apiResponse = restTemplate.getForObject(fullUrl, Map.class);
+            Map<String, String> apiResponse = fetchScore(eventId, fullUrl);
+            fetched = true;
+            recordLatency(singleSuccess, startNanos);
+
+            publish(eventId, apiResponse);
+
+        } catch (Exception e) {
+            if (!fetched && !(e instanceof UpstreamRejectedException)) {
+                recordLatency(singleError, startNanos);
+            }
+            // We catch Exception to ensure one bad event doesn't crash the scheduler thread.
+            logPollFailure("Error polling score for event " + eventId, e);
+        }
+        return DONE;
+    }
+
+    // Structure: { "eventId": "1234", "currentScore": "0:0" }, or NOT_MODIFIED for a 304 with no remembered score
+    @SuppressWarnings("unchecked")
+    private Map<String, String> fetchScore(String eventId, String fullUrl) {
+        if (!validators.enabled()) {
+            return upstreamGuard.call(() -> restTemplate.getForObject(fullUrl, Map.class));
+        }
+        HttpEntity<Void> conditional = new HttpEntity<>(validators.requestHeaders(eventId));
+        return conditionalBody(eventId, upstreamGuard.call(
+                () -> restTemplate.exchange(fullUrl, HttpMethod.GET, conditional, SCORE_TYPE)));
+    }
+
+    // A 304 means the score is the one we saw last: it is published as an unchanged score, so
+    // change detection suppresses it (or sends its heartbeat) and adaptive polling backs off
+    private Map<String, String> conditionalBody(String eventId, ResponseEntity<Map<String, String>> response) {
+        if (response.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+            String score = validators.onNotModified(eventId);
+            return score != null ? Map.of("eventId", eventId, "currentScore", score) : NOT_MODIFIED;
+        }
+        return validators.onModified(eventId, response);
+    }
 
-            if (apiResponse == null || apiResponse.isEmpty()) {
-                logger.warn("Received empty response for event: {}", eventId);
-                return;
+    /**
+     * Polls a group of events that are due in the same tick. With batching enabled they are
+     * fetched with one upstream request per chunk of at most maxBatchSize ids.
+     */
+    public CompletableFuture<Void> pollEvents(List<String> eventIds) {
+        List<CompletableFuture<Void>> polls = new ArrayList<>();
+        if (maxBatchSize == 1) {
+            eventIds.forEach(eventId -> withEventId(eventId, () -> polls.add(pollSingleEvent(eventId))));
+        } else {
+            List<String> due = adaptivePolicy.due(loadShedder != null ? loadShedder.admit(eventIds) : eventIds);
+            if (due.isEmpty() || shedForBackpressure(due.size())) {
+                return DONE;
             }
+            List<String> admitted = inFlight.admitAll(due);
+            admitted.forEach(adaptivePolicy::markPolled);
+            for (int from = 0; from < admitted.size(); from += maxBatchSize) {
+                List<String> chunk = admitted.subList(from, Math.min(from + maxBatchSize, admitted.size()));
+                polls.add(whenSettled(paced(priority(chunk), () -> pollBatch(chunk)), () -> inFlight.releaseAll(chunk)));
+            }
+        }
+        return CompletableFuture.allOf(polls.toArray(CompletableFuture[]::new));
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<Void> pollBatch(List<String> eventIds) {
+        logger.debug("Starting batch poll for {} events", eventIds.size());
+
+        long startNanos = System.nanoTime();
+        if (asyncClient != null) {
+            return upstreamGuard.callAsync(() -> asyncClient.fetchScores(eventIds))
+                    .whenComplete((responses, ex) -> recordOutcome(batchSuccess, batchError, ex, startNanos))
+                    .thenAccept(responses -> publishAll(eventIds, responses))
+                    .exceptionally(ex -> {
+                        logPollFailure("Error polling scores for batch of " + eventIds.size() + " events", ex);
+                        return null;
+                    });
+        }
+
+        boolean fetched = false;
+        try {
+            // Structure: [ { "eventId": "1234", "currentScore": "0:0" }, ... ]
+            Map<String, String>[] apiResponse = upstreamGuard.call(() -> restTemplate.getForObject(
+                    batchApiUrl + "?ids={ids}", Map[].class, String.join(",", eventIds)));
+            fetched = true;
+            recordLatency(batchSuccess, startNanos);
 
-            // Publish to Kafka
-            producer.sendScoreUpdate(apiResponse); 
-            logger.info("Successfully polled and published score for event: {}", eventId);
+            publishAll(eventIds, apiResponse == null ? List.of() : Arrays.asList(apiResponse));
 
         } catch (Exception e) {
-            // We catch Exception to ensure one bad event doesn't crash the scheduler thread.
-            // In a real app, we can catch specific exceptions (RestClientException, KafkaException)
-            logger.error("Error polling score for event {}: {}", eventId, e.getMessage(), e);
+            if (!fetched && !(e instanceof UpstreamRejectedException)) {
+                recordLatency(batchError, startNanos);
+            }
+            logPollFailure("Error polling scores for batch of " + eventIds.size() + " events", e);
+        }
+        return DONE;
+    }
+
+    private static CompletableFuture<Void> whenSettled(CompletableFuture<Void> poll, Runnable action) {
+        if (poll.isDone()) {
+            action.run();
+            return poll;
+        }
+        return poll.whenComplete((result, ex) -> action.run());
+    }
+
+    private static void recordLatency(Timer timer, long startNanos) {
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // Calls the guard rejected never reached the upstream, so they have no latency
+    private static void recordOutcome(Timer success, Timer error, Throwable ex, long startNanos) {
+        if (ex == null) {
+            recordLatency(success, startNanos);
+        } else if (!(unwrap(ex) instanceof UpstreamRejectedException)) {
+            recordLatency(error, startNanos);
+        }
+    }
+
+    private void logPollFailure(String message, Throwable ex) {
+        pollLog.failure(message, ex);
+    }
+
+    private static Throwable unwrap(Throwable ex) {
+        return PollLog.unwrap(ex);
+    }
+
+    // Polling while Kafka is backed up only feeds the producer buffer; skip until it drains
+    private boolean shedForBackpressure(int polls) {
+        if (!producer.isBackpressured()) {
+            return false;
+        }
+        shedPolls.increment(polls);
+        logger.debug("Kafka backpressure, shedding {} poll(s)", polls);
+        return true;
+    }
+
+    private CompletableFuture<Void> pollSingleEventAsync(String eventId) {
+        logger.debug("Starting async poll for event: {}", eventId);
+
+        // Callbacks run on the HttpClient's completion threads, so the MDC is restored there
+        long startNanos = System.nanoTime();
+        CompletableFuture<Map<String, String>> fetch = validators.enabled()
+                ? upstreamGuard.callAsync(() -> asyncClient.fetchScoreIfModified(eventId, validators.requestHeaders(eventId)))
+                        .thenApply(response -> conditionalBody(eventId, response))
+                : upstreamGuard.callAsync(() -> asyncClient.fetchScore(eventId));
+        return fetch
+                .whenComplete((apiResponse, ex) -> recordOutcome(singleSuccess, singleError, ex, startNanos))
+                .thenAccept(apiResponse -> withEventId(eventId, () -> publish(eventId, apiResponse)))
+                .exceptionally(ex -> {
+                    withEventId(eventId, () -> logPollFailure("Error polling score for event " + eventId, ex));
+                    return null;
+                });
+    }
+
+    private void publish(String eventId, Map<String, String> apiResponse) {
+        if (apiResponse == NOT_MODIFIED) {
+            logger.warn("Score not modified for event {}, but no score is remembered; nothing published", eventId);
+            return;
+        }
+        if (apiResponse == null || apiResponse.isEmpty()) {
+            logger.warn("Received empty response for event: {}", eventId);
+            return;
+        }
+
+        String currentScore = apiResponse.get("currentScore");
+        ScoreUpdate scoreUpdate;
+        try {
+            scoreUpdate = ScoreUpdate.of(eventId, currentScore, System.currentTimeMillis());
+        } catch (IllegalArgumentException e) {
+            logger.warn("Dropping unparseable score for event {}: {}", eventId, e.getMessage());
+            return;
+        }
+        adaptivePolicy.onScore(eventId, currentScore);
+
+        if (!changeDetector.shouldPublish(eventId, currentScore)) {
+            logger.debug("Score unchanged for event {}, not republishing", eventId);
+            return;
+        }
+
+        // Publish to Kafka; a dropped or failed send is rolled back in the detector and republished next poll
+        producer.sendScoreUpdate(scoreUpdate, sent -> onSendComplete(scoreUpdate, currentScore, sent));
+        pollLog.success(eventId);
+    }
+
+    private void onSendComplete(ScoreUpdate scoreUpdate, String score, boolean sent) {
+        String eventId = scoreUpdate.eventId();
+        changeDetector.onSendComplete(eventId, score, sent);
+        if (!sent) {
+            validators.forget(eventId); // A 304 must not stand in for a score Kafka never got
+            return;
+        }
+        if (fanout != null) {
+            fanout.publish(scoreUpdate); // SSE only shows what reached the topic, once
+        }
+    }
+
+    // Only ids of the requested chunk are published; requested ids the response left out and
+    // ids it should not contain (unrequested or repeated) are logged by id and counted
+    private void publishAll(List<String> eventIds, List<Map<String, String>> apiResponses) {
+        Set<String> missing = new LinkedHashSet<>(eventIds);
+        List<String> unexpected = new ArrayList<>();
+        for (Map<String, String> apiResponse : apiResponses) {
+            String eventId = apiResponse.get("eventId");
+            if (!missing.remove(eventId)) {
+                unexpected.add(eventId);
+                continue;
+            }
+            withEventId(eventId, () -> publish(eventId, apiResponse));
+        }
+        if (!missing.isEmpty()) {
+            batchMissing.increment(missing.size());
+            logger.warn("Batch response left out {} of {} requested events: {}", missing.size(), eventIds.size(), missing);
+        }
+        if (!unexpected.isEmpty()) {
+            batchUnexpected.increment(unexpected.size());
+            logger.warn("Batch response contained {} unrequested or repeated events, not published: {}", unexpected.size(), unexpected);
+        }
+    }
+
+    private static void withEventId(String eventId, Runnable action) {
+        MDC.put("eventId", eventId);
+        try {
+            action.run();
+        } finally {
+            MDC.remove("eventId");
         }
     }
-}
\ No newline at end of file
+}
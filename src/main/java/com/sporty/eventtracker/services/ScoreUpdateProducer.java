@@ -1,33 +1,143 @@
 package com.sporty.eventtracker.services;
 
-import org.springframework.beans.factory.annotation.Autowired;
+import com.sporty.eventtracker.dto.ScoreUpdate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.common.errors.TimeoutException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
-import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @Service
 public class ScoreUpdateProducer {
     private static final Logger logger = LoggerFactory.getLogger(ScoreUpdateProducer.class);
+    private static final long BUFFER_EXHAUSTED_COOLDOWN_NANOS = TimeUnit.SECONDS.toNanos(1);
 
-    @Value("${app.kafka.topic}")
-    private String topic;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final String topic;
+    // 'map' = legacy JSON map payload, 'binary' / 'json' = ScoreUpdate through KafkaConfig's serializer
+    private final String valueFormat;
 
-    @Autowired
-    private KafkaTemplate<String, Map<String, String>> kafkaTemplate;
+    // Caps un-acknowledged sends so a slow broker can't pile up unbounded futures
+    private final Semaphore inFlight;
+    private final int maxInFlight;
+    private final int backpressureThreshold;
+    private volatile long bufferExhaustedAt = System.nanoTime() - BUFFER_EXHAUSTED_COOLDOWN_NANOS;
 
-    public void sendScoreUpdate(Map<String, String> scoreUpdate) {
-        String eventId = scoreUpdate.get("eventId");
+    private final Timer sendLatency;
+    private final Counter sendFailures;
+    private final Counter bufferExhausted;
+    private final Counter rejected;
 
-        kafkaTemplate.send(topic, eventId, scoreUpdate)
-                .whenComplete((result, ex) -> {
-                    if (ex == null) {
-                        logger.debug("Message persisted by Broker for event {}", eventId);
-                    } else {
-                        logger.error("Failed to publish event {}: {}", eventId, ex.getMessage());
-                    }
-                });
+    public ScoreUpdateProducer(KafkaTemplate<String, Object> kafkaTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.kafka.topic}") String topic,
+                               @Value("${app.kafka.value-format:map}") String valueFormat,
+                               @Value("${app.kafka.producer.max-in-flight-sends:10000}") int maxInFlight,
+                               @Value("${app.kafka.producer.backpressure-threshold:0.8}") double backpressureThreshold) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = topic;
+        this.valueFormat = valueFormat;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.backpressureThreshold = (int) Math.ceil(maxInFlight * backpressureThreshold);
+
+        this.sendLatency = Timer.builder("tracker.kafka.send.latency")
+                .description("Time from send until the broker acknowledged (or failed) the record")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.sendFailures = Counter.builder("tracker.kafka.send.failures")
+                .description("Sends the producer or broker failed for a reason other than a timeout")
+                .register(meterRegistry);
+        this.bufferExhausted = Counter.builder("tracker.kafka.buffer.exhausted")
+                .description("Sends that timed out waiting for producer buffer space, metadata or the broker")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("tracker.kafka.send.rejected")
+                .description("Score updates dropped because max-in-flight-sends was reached")
+                .register(meterRegistry);
+        Gauge.builder("tracker.kafka.send.in.flight", this, ScoreUpdateProducer::inFlightSends)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Told once per send whether the broker acknowledged the update (true) or it was dropped
+     * at the in-flight cap or failed (false).
+     */
+    @FunctionalInterface
+    public interface SendListener {
+        void onComplete(boolean sent);
+    }
+
+    public void sendScoreUpdate(ScoreUpdate scoreUpdate, SendListener listener) {
+        String eventId = scoreUpdate.eventId();
+        if (!inFlight.tryAcquire()) {
+            rejected.increment();
+            logger.warn("Dropping score update for event {}: {} sends already in flight", eventId, maxInFlight);
+            listener.onComplete(false);
+            return;
+        }
+
+        Object payload = "map".equals(valueFormat) ? scoreUpdate.toMap() : scoreUpdate;
+        long start = System.nanoTime();
+        try {
+            kafkaTemplate.send(topic, eventId, payload)
+                    .whenComplete((result, ex) -> {
+                        inFlight.release();
+                        sendLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                        if (ex == null) {
+                            logger.debug("Message persisted by Broker for event {}", eventId);
+                        } else {
+                            onFailure(eventId, ex);
+                        }
+                        listener.onComplete(ex == null);
+                    });
+        } catch (RuntimeException e) {
+            // Thrown synchronously (e.g. serialization), the callback above never runs
+            inFlight.release();
+            onFailure(eventId, e);
+            listener.onComplete(false);
+        }
+    }
+
+    /**
+     * True while Kafka can't keep up: too many un-acknowledged sends, or the producer buffer
+     * ran out recently. Polls are shed while this holds instead of piling more work on the broker.
+     */
+    public boolean isBackpressured() {
+        return inFlightSends() >= backpressureThreshold
+                || System.nanoTime() - bufferExhaustedAt < BUFFER_EXHAUSTED_COOLDOWN_NANOS;
+    }
+
+    public int inFlightSends() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    private void onFailure(String eventId, Throwable ex) {
+        if (causedByTimeout(ex)) {
+            bufferExhausted.increment();
+            bufferExhaustedAt = System.nanoTime();
+            logger.error("Timed out publishing event {}: {}", eventId, ex.getMessage());
+            return;
+        }
+        sendFailures.increment();
+        logger.error("Failed to publish event {}: {}", eventId, ex.getMessage());
+    }
+
+    // BufferExhaustedException and metadata waits both surface as a Kafka TimeoutException, a
+    // timed-out future as the JDK one; either may arrive wrapped (CompletionException,
+    // ExecutionException, KafkaProducerException), so the whole cause chain is checked
+    private static boolean causedByTimeout(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException || cause instanceof java.util.concurrent.TimeoutException) {
+                return true;
+            }
+        }
+        return false;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,74 @@
+package com.sporty.eventtracker.services;
+
+import com.sporty.eventtracker.dto.EventStatusUpdate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Applies fixture status changes published to Kafka, so upstream feeds need no HTTP bridge.
+ * Each poll's records are applied like a bulk request, through {@link StatusUpdates}: the last
+ * status per event wins, and the scheduler gets one call per status. The started and stopped
+ * counts are events whose tracking state actually changed. Returning normally lets the
+ * container commit the batch's offsets; throwing (e.g. the cluster status topic is
+ * unreachable) redelivers it.
+ * The topic should be keyed by eventId so one event's changes stay in order.
+ */
+@Component
+@ConditionalOnProperty(name = "app.status-ingest.enabled", havingValue = "true")
+public class StatusIngestListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatusIngestListener.class);
+
+    private final StatusUpdates statusUpdates;
+
+    private final Counter started;
+    private final Counter stopped;
+    private final Counter routed;
+    private final Counter invalid;
+
+    public StatusIngestListener(StatusUpdates statusUpdates, MeterRegistry meterRegistry) {
+        this.statusUpdates = statusUpdates;
+        this.started = ingested(meterRegistry, "started");
+        this.stopped = ingested(meterRegistry, "stopped");
+        this.routed = ingested(meterRegistry, "routed");
+        this.invalid = ingested(meterRegistry, "invalid");
+    }
+
+    private static Counter ingested(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("tracker.status.ingest")
+                .description("Status records consumed from the ingest topic")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @KafkaListener(id = "statusIngest",
+            topics = "${app.status-ingest.topic:fixture-status}",
+            groupId = "${app.status-ingest.group-id:sporty-event-tracker-ingest}",
+            containerFactory = "statusIngestContainerFactory")
+    public void onStatuses(List<ConsumerRecord<String, EventStatusUpdate>> records) {
+        StatusUpdates.Batch batch = statusUpdates.batch();
+        int skipped = 0;
+        for (ConsumerRecord<String, EventStatusUpdate> record : records) {
+            if (!batch.add(record.value())) {
+                skipped++;
+                logger.warn("Skipping invalid status record {}-{}@{}", record.topic(), record.partition(), record.offset());
+            }
+        }
+        batch.apply(); // Throws, and so redelivers, if cluster routing failed
+
+        started.increment(batch.started());
+        stopped.increment(batch.stopped());
+        routed.increment(batch.routed());
+        invalid.increment(skipped);
+        logger.info("Applied {} status records: {} started, {} stopped, {} routed, {} invalid",
+                records.size(), batch.started(), batch.stopped(), batch.routed(), skipped);
+    }
+}
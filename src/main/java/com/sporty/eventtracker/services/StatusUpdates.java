@@ -0,0 +1,125 @@
+package com.sporty.eventtracker.services;
+
+import com.sporty.eventtracker.dto.EventPriority;
+import com.sporty.eventtracker.dto.EventStatus;
+import com.sporty.eventtracker.dto.EventStatusUpdate;
+import com.sporty.eventtracker.interfaces.EventScheduler;
+import com.sporty.eventtracker.services.cluster.ClusterStatusRouter;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The one path status updates take to the scheduler, for the REST endpoints and the ingest
+ * topic alike. Updates are collected in a {@link Batch}: invalid ones are refused, and the last
+ * status for an event wins, and so does its priority. Applying a batch takes one scheduler call
+ * per status and records the change in the journal; in cluster mode it is routed to the owning
+ * instances instead, which apply it themselves.
+ */
+@Component
+public class StatusUpdates {
+
+    private final EventScheduler eventScheduler;
+    private final ClusterStatusRouter clusterRouter; // Only present in cluster mode: the owner applies the update
+    private final TrackingJournal journal; // Only present when restart recovery is enabled
+
+    public StatusUpdates(EventScheduler eventScheduler,
+                         @Nullable ClusterStatusRouter clusterRouter,
+                         @Nullable TrackingJournal journal) {
+        this.eventScheduler = eventScheduler;
+        this.clusterRouter = clusterRouter;
+        this.journal = journal;
+    }
+
+    public Batch batch() {
+        return new Batch();
+    }
+
+    /**
+     * Updates collected for one apply. Counts accumulate over every apply of the batch:
+     * started/stopped are events whose tracking state actually changed, routed are updates
+     * handed to their owner in cluster mode.
+     */
+    public final class Batch {
+        private final Map<String, EventStatus> pending = new LinkedHashMap<>();
+        private final Map<String, EventPriority> priorities = new HashMap<>();
+        private int started;
+        private int stopped;
+        private int routed;
+
+        private Batch() {
+        }
+
+        /**
+         * Returns false, and keeps nothing, for an update without an eventId or a status.
+         */
+        public boolean add(EventStatusUpdate update) {
+            if (update == null || update.eventId() == null || update.eventId().isBlank() || update.status() == null) {
+                return false;
+            }
+            pending.put(update.eventId(), update.status());
+            if (update.priority() != null && update.status() == EventStatus.LIVE) {
+                priorities.put(update.eventId(), update.priority());
+            } else {
+                priorities.remove(update.eventId());
+            }
+            return true;
+        }
+
+        public int pending() {
+            return pending.size();
+        }
+
+        /**
+         * Applies the updates added since the last call. Throws CompletionException when cluster
+         * routing failed; nothing was applied then and the caller has to retry.
+         */
+        public void apply() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<String> toStart = new ArrayList<>();
+            List<String> toStop = new ArrayList<>();
+            pending.forEach((eventId, status) -> (status == EventStatus.LIVE ? toStart : toStop).add(eventId));
+            pending.clear();
+            Map<String, EventPriority> tiers = Map.copyOf(priorities);
+            priorities.clear();
+
+            if (clusterRouter != null) {
+                clusterRouter.routeAll(toStart, toStop).join();
+                routed += toStart.size() + toStop.size();
+                return;
+            }
+            if (!toStop.isEmpty()) {
+                stopped += eventScheduler.stopTrackingAll(toStop);
+                if (journal != null) {
+                    journal.appendStopped(toStop);
+                }
+            }
+            if (!toStart.isEmpty()) {
+                tiers.forEach(eventScheduler::setPriority);
+                started += eventScheduler.startTrackingAll(toStart);
+                if (journal != null) {
+                    journal.appendStarted(toStart);
+                }
+            }
+        }
+
+        public int started() {
+            return started;
+        }
+
+        public int stopped() {
+            return stopped;
+        }
+
+        public int routed() {
+            return routed;
+        }
+    }
+}
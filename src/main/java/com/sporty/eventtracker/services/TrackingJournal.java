@@ -0,0 +1,252 @@
+package com.sporty.eventtracker.services;
+
+import com.sporty.eventtracker.interfaces.EventScheduler;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Append-only local journal of tracking changes, so a restart resumes polling immediately
+ * instead of waiting for the feed to resend LIVE statuses.
+ *
+ * Each change is one line: {@code +eventId} (started) or {@code -eventId} (stopped). Startup
+ * maps the file read-only and replays it; a torn last line from a crash is ignored. The journal
+ * is periodically rewritten as a snapshot of the live set once it is mostly stale records.
+ * Changes are recorded by {@link StatusUpdates}, the one path status updates take.
+ *
+ * In cluster mode nothing is recovered: which instance polls an event is decided by the
+ * partitions it owns, and ClusterMembership restarts those from the compacted status topic.
+ * Replaying a local journal would poll events another instance owns.
+ */
+@Component
+@ConditionalOnProperty(name = "app.journal.enabled", havingValue = "true")
+public class TrackingJournal {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrackingJournal.class);
+    private static final byte STARTED = '+';
+    private static final byte STOPPED = '-';
+    private static final int COMPACT_MIN_RECORDS = 1000;
+
+    private final Path path;
+    private final boolean fsync;
+    private final Duration compactInterval;
+    private final EventScheduler eventScheduler;
+    private final TaskScheduler taskScheduler;
+    private final boolean clusterMode;
+
+    // Guarded by 'this'; status changes are rare next to polls, so appends simply serialize
+    private final Set<String> live = new LinkedHashSet<>();
+    private FileChannel channel;
+    private long records;
+    private ScheduledFuture<?> compactor;
+
+    public TrackingJournal(EventScheduler eventScheduler,
+                           TaskScheduler taskScheduler,
+                           @Value("${app.journal.path:data/tracking.journal}") String path,
+                           @Value("${app.journal.fsync:true}") boolean fsync,
+                           @Value("${app.journal.compact-interval-ms:60000}") long compactIntervalMillis,
+                           @Value("${app.cluster.enabled:false}") boolean clusterMode) {
+        this.eventScheduler = eventScheduler;
+        this.taskScheduler = taskScheduler;
+        this.clusterMode = clusterMode;
+        this.path = Path.of(path);
+        this.fsync = fsync;
+        this.compactInterval = Duration.ofMillis(compactIntervalMillis);
+    }
+
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        long validLength = replay();
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        if (channel.size() > validLength) {
+            channel.truncate(validLength); // Drop a torn last record so new ones start on a fresh line
+        }
+        compactor = taskScheduler.scheduleWithFixedDelay(this::compactIfStale, compactInterval);
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (compactor != null) {
+            compactor.cancel(false);
+        }
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    /**
+     * Restarts every event that was live at shutdown. The bulk start lets the scheduler spread
+     * their first polls over the interval instead of firing them all at once.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        if (clusterMode) {
+            logger.info("Cluster mode: owned events are restored from the status topic, skipping journal recovery");
+            return;
+        }
+        List<String> recovered;
+        synchronized (this) {
+            recovered = new ArrayList<>(live);
+        }
+        if (recovered.isEmpty()) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        eventScheduler.startTrackingAll(recovered);
+        logger.info("Recovered {} live events from {} in {} ms", recovered.size(), path,
+                Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+    }
+
+    public void appendStarted(Collection<String> eventIds) {
+        append(STARTED, eventIds);
+    }
+
+    public void appendStopped(Collection<String> eventIds) {
+        append(STOPPED, eventIds);
+    }
+
+    public synchronized Set<String> liveEvents() {
+        return Set.copyOf(live);
+    }
+
+    private synchronized void append(byte op, Collection<String> eventIds) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(eventIds.size() * 16);
+        int appended = 0;
+        for (String eventId : eventIds) {
+            if (eventId.indexOf('\n') >= 0) {
+                logger.warn("Not journaling event id with a line break: {}", eventId);
+                continue;
+            }
+            boolean changed = op == STARTED ? live.add(eventId) : live.remove(eventId);
+            if (changed) {
+                out.write(op);
+                out.writeBytes(eventId.getBytes(StandardCharsets.UTF_8));
+                out.write('\n');
+                appended++;
+            }
+        }
+        if (appended == 0) {
+            return;
+        }
+
+        try {
+            write(channel, ByteBuffer.wrap(out.toByteArray()));
+            records += appended;
+        } catch (IOException e) {
+            // Tracking itself already changed; losing the record only costs recovery of this event
+            logger.error("Could not append {} records to tracking journal {}: {}", appended, path, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Rewrites the journal as a snapshot of the live set once most of its records are stale.
+     */
+    public synchronized void compactIfStale() {
+        if (records < COMPACT_MIN_RECORDS || records < 2L * live.size()) {
+            return;
+        }
+        try {
+            compact();
+        } catch (IOException e) {
+            logger.error("Could not compact tracking journal {}: {}", path, e.getMessage(), e);
+        }
+    }
+
+    synchronized void compact() throws IOException {
+        Path snapshot = path.resolveSibling(path.getFileName() + ".tmp");
+        ByteArrayOutputStream out = new ByteArrayOutputStream(live.size() * 16);
+        for (String eventId : live) {
+            out.write(STARTED);
+            out.writeBytes(eventId.getBytes(StandardCharsets.UTF_8));
+            out.write('\n');
+        }
+        try (FileChannel snapshotChannel = FileChannel.open(snapshot, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            snapshotChannel.write(ByteBuffer.wrap(out.toByteArray()));
+            snapshotChannel.force(false);
+        }
+
+        channel.close();
+        try {
+            Files.move(snapshot, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        logger.debug("Compacted tracking journal from {} to {} records", records, live.size());
+        records = live.size();
+    }
+
+    // Returns the length of the journal up to its last complete record
+    private long replay() throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        try (FileChannel readChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = readChannel.size();
+            if (size == 0) {
+                return 0;
+            }
+            MappedByteBuffer buffer = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int lineStart = 0;
+            for (int i = 0; i < size; i++) {
+                if (buffer.get(i) != '\n') {
+                    continue;
+                }
+                if (i - lineStart > 1) {
+                    byte op = buffer.get(lineStart);
+                    byte[] id = new byte[i - lineStart - 1];
+                    buffer.get(lineStart + 1, id);
+                    String eventId = new String(id, StandardCharsets.UTF_8);
+                    if (op == STARTED) {
+                        live.add(eventId);
+                    } else if (op == STOPPED) {
+                        live.remove(eventId);
+                    }
+                    records++;
+                }
+                lineStart = i + 1;
+            }
+            if (lineStart < size) {
+                logger.warn("Ignoring torn last record in tracking journal {}", path);
+            }
+            return lineStart;
+        }
+    }
+
+    private void write(FileChannel target, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+        if (fsync) {
+            target.force(false);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.sporty.eventtracker.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Protects the upstream score API, and the poll threads waiting on it:
+ * <ul>
+ *   <li>Circuit breaker: after failure-threshold consecutive failures, calls fail fast for
+ *       open-duration-ms; then a single probe decides between closing and reopening.</li>
+ *   <li>Bulkhead: at most max-concurrent-calls requests in flight; extra calls are rejected, not queued.</li>
+ *   <li>Retry budget: one retry for transient errors (connection failures, 5xx, never timeouts),
+ *       paid from a token bucket refilled by retry-budget-ratio per call, so retries cannot
+ *       multiply load during an outage.</li>
+ * </ul>
+ */
+@Component
+public class UpstreamGuard {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final Logger logger = LoggerFactory.getLogger(UpstreamGuard.class);
+    private static final long TOKEN = 1000; // Retry tokens are kept in thousandths
+    private static final long MAX_RETRY_TOKENS = 10 * TOKEN;
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final long retryDeposit;
+    private final Semaphore bulkhead;
+    private final LongSupplier clock;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong retryTokens = new AtomicLong(MAX_RETRY_TOKENS);
+    private volatile long openedAt;
+
+    private final Counter rejectedOpen;
+    private final Counter rejectedBulkhead;
+    private final Counter retries;
+
+    @Autowired
+    public UpstreamGuard(MeterRegistry meterRegistry,
+                         @Value("${app.external-api.resilience.failure-threshold:5}") int failureThreshold,
+                         @Value("${app.external-api.resilience.open-duration-ms:10000}") long openDurationMillis,
+                         @Value("${app.external-api.resilience.max-concurrent-calls:50}") int maxConcurrentCalls,
+                         @Value("${app.external-api.resilience.retry-budget-ratio:0.1}") double retryBudgetRatio) {
+        this(meterRegistry, failureThreshold, openDurationMillis, maxConcurrentCalls, retryBudgetRatio, System::nanoTime);
+    }
+
+    UpstreamGuard(MeterRegistry meterRegistry, int failureThreshold, long openDurationMillis,
+                  int maxConcurrentCalls, double retryBudgetRatio, LongSupplier clock) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMillis);
+        this.retryDeposit = Math.round(retryBudgetRatio * TOKEN);
+        this.bulkhead = new Semaphore(Math.max(1, maxConcurrentCalls));
+        this.clock = clock;
+
+        Gauge.builder("tracker.upstream.breaker.state", state, s -> s.get().ordinal())
+                .description("Upstream circuit breaker: 0 = closed, 1 = open, 2 = half-open")
+                .register(meterRegistry);
+        this.rejectedOpen = rejected(meterRegistry, "breaker-open");
+        this.rejectedBulkhead = rejected(meterRegistry, "bulkhead-full");
+        this.retries = Counter.builder("tracker.upstream.retries")
+                .description("Upstream calls retried after a transient error")
+                .register(meterRegistry);
+    }
+
+    private static Counter rejected(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("tracker.upstream.rejected")
+                .description("Upstream calls failed fast without being sent")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    public State state() {
+        return state.get();
+    }
+
+    /**
+     * Runs a blocking upstream call, or throws {@link UpstreamRejectedException} without calling it.
+     */
+    public <T> T call(Supplier<T> request) {
+        boolean probe = acquire();
+        try {
+            T result;
+            try {
+                result = request.get();
+            } catch (RuntimeException e) {
+                if (probe || !retryable(e)) {
+                    throw e;
+                }
+                result = request.get();
+            }
+            onSuccess(probe);
+            return result;
+        } catch (RuntimeException e) {
+            onFailure(e, probe);
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * Async variant: the permit is held until the returned future completes. A rejection
+     * completes the future with {@link UpstreamRejectedException}.
+     */
+    public <T> CompletableFuture<T> callAsync(Supplier<CompletableFuture<T>> request) {
+        boolean probe;
+        try {
+            probe = acquire();
+        } catch (UpstreamRejectedException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return attempt(request)
+                .handle((result, ex) -> ex == null || probe || !retryable(ex)
+                        ? (ex == null ? CompletableFuture.completedFuture(result) : CompletableFuture.<T>failedFuture(ex))
+                        : attempt(request))
+                .thenCompose(future -> future)
+                .whenComplete((result, ex) -> {
+                    bulkhead.release();
+                    if (ex == null) {
+                        onSuccess(probe);
+                    } else {
+                        onFailure(ex, probe);
+                    }
+                });
+    }
+
+    private static <T> CompletableFuture<T> attempt(Supplier<CompletableFuture<T>> request) {
+        try {
+            return request.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // Returns true when this call is the half-open probe
+    private boolean acquire() {
+        if (!bulkhead.tryAcquire()) {
+            rejectedBulkhead.increment();
+            throw new UpstreamRejectedException("bulkhead-full");
+        }
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return false;
+        }
+        if (current == State.OPEN && clock.getAsLong() - openedAt >= openDurationNanos
+                && state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+            logger.info("Upstream circuit half-open, probing");
+            return true;
+        }
+        bulkhead.release();
+        rejectedOpen.increment();
+        throw new UpstreamRejectedException("breaker-open");
+    }
+
+    private void onSuccess(boolean probe) {
+        consecutiveFailures.set(0);
+        retryTokens.accumulateAndGet(retryDeposit, (tokens, deposit) -> Math.min(MAX_RETRY_TOKENS, tokens + deposit));
+        if (probe && state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+            logger.info("Upstream recovered, circuit closed");
+        }
+    }
+
+    private void onFailure(Throwable failure, boolean probe) {
+        if (!countsAsFailure(unwrap(failure))) {
+            onSuccess(probe); // The upstream answered; the request was the problem
+            return;
+        }
+        if (probe) {
+            open("probe failed");
+        } else if (consecutiveFailures.incrementAndGet() >= failureThreshold && state.get() == State.CLOSED) {
+            open(failureThreshold + " consecutive failures");
+        }
+    }
+
+    private void open(String why) {
+        openedAt = clock.getAsLong();
+        State previous = state.getAndSet(State.OPEN);
+        if (previous != State.OPEN) {
+            logger.warn("Upstream circuit opened ({}), failing fast for {} ms", why,
+                    TimeUnit.NANOSECONDS.toMillis(openDurationNanos));
+        }
+    }
+
+    private boolean retryable(Throwable failure) {
+        if (!isTransient(unwrap(failure))) {
+            return false;
+        }
+        long tokens;
+        do {
+            tokens = retryTokens.get();
+            if (tokens < TOKEN) {
+                return false;
+            }
+        } while (!retryTokens.compareAndSet(tokens, tokens - TOKEN));
+        retries.increment();
+        return true;
+    }
+
+    // Connection failures and 5xx may succeed on a second try; timeouts already spent the budget
+    private static boolean isTransient(Throwable failure) {
+        if (failure instanceof HttpServerErrorException) {
+            return true;
+        }
+        Throwable cause = failure instanceof ResourceAccessException ? failure.getCause() : failure;
+        return cause instanceof IOException
+                && !(cause instanceof SocketTimeoutException)
+                && !(cause instanceof HttpTimeoutException);
+    }
+
+    // A 4xx means the upstream is up and answering
+    private static boolean countsAsFailure(Throwable failure) {
+        return !(failure instanceof HttpClientErrorException);
+    }
+
+    // The async client fails with CompletionException or ExecutionException around the real cause
+    private static Throwable unwrap(Throwable failure) {
+        while ((failure instanceof CompletionException || failure instanceof ExecutionException) && failure.getCause() != null) {
+            failure = failure.getCause();
+        }
+        return failure;
+    }
+}
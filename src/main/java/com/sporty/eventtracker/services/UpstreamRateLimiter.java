@@ -0,0 +1,212 @@
+package com.sporty.eventtracker.services;
+
+import com.sporty.eventtracker.dto.EventPriority;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket in front of the upstream score API, so a tick or a wave of events going LIVE
+ * is spread out instead of sent as one burst. The bucket refills at permits-per-second and
+ * holds at most burst permits; in any one second at most permits-per-second + burst
+ * requests go out. A batch request takes one permit.
+ *
+ * Polls are never rejected. A poll that finds the bucket empty waits in the queue of its
+ * tier, and each permit that accrues goes to the longest-waiting poll of the highest tier:
+ * a HIGH poll never waits behind queued NORMAL or LOW ones. No thread sleeps meanwhile. A
+ * granted poll goes on as its own task, never on the thread that released the permits: with
+ * virtual threads on a fresh virtual thread, otherwise as a task of the scheduler pool, as
+ * platform-mode polls do. The in-flight guard of
+ * {@link ScorePollingService} admits one poll per event at a time, so a slow event cannot
+ * queue up behind itself.
+ */
+@Component
+@ConditionalOnProperty(name = "app.external-api.rate-limit.enabled", havingValue = "true")
+public class UpstreamRateLimiter {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final long nanosPerPermit;
+    private final double burst;
+    private final LongSupplier clock;
+    private final TaskScheduler taskScheduler; // Hands out permits to waiting polls when they accrue
+    private final Executor resumeOn; // Runs the polls granted a permit
+
+    // Guarded by this
+    private double storedPermits;
+    private long refilledAt;
+    private final Map<EventPriority, ArrayDeque<Waiter>> waiting = new EnumMap<>(EventPriority.class);
+    private int waitingCount;
+    private boolean releaseScheduled;
+    private long windowSecond;
+    private int windowCount;
+    private int lastSecondCount;
+
+    private final Timer throttledWait;
+
+    @Autowired
+    public UpstreamRateLimiter(MeterRegistry meterRegistry,
+                               TaskScheduler taskScheduler,
+                               @Value("${app.scheduling.executor:platform}") String executorMode,
+                               @Value("${app.external-api.rate-limit.permits-per-second:100}") double permitsPerSecond,
+                               @Value("${app.external-api.rate-limit.burst:10}") int burst) {
+        this(meterRegistry, permitsPerSecond, burst, System::nanoTime, taskScheduler,
+                resumeExecutor(executorMode, taskScheduler));
+    }
+
+    UpstreamRateLimiter(MeterRegistry meterRegistry, double permitsPerSecond, int burst, LongSupplier clock,
+                        TaskScheduler taskScheduler, Executor resumeOn) {
+        this.nanosPerPermit = Math.max(1, (long) (SECOND / permitsPerSecond));
+        this.burst = Math.max(1, burst);
+        this.clock = clock;
+        this.taskScheduler = taskScheduler;
+        this.resumeOn = resumeOn;
+        this.storedPermits = this.burst;
+        this.refilledAt = clock.getAsLong();
+        this.windowSecond = Math.floorDiv(refilledAt, SECOND);
+        for (EventPriority tier : EventPriority.values()) {
+            waiting.put(tier, new ArrayDeque<>());
+        }
+
+        this.throttledWait = Timer.builder("tracker.upstream.ratelimit.wait")
+                .description("Time a poll waited for a rate-limit permit before its upstream request")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("tracker.upstream.ratelimit.queue", this, UpstreamRateLimiter::queued)
+                .description("Polls waiting for a rate-limit permit")
+                .register(meterRegistry);
+        Gauge.builder("tracker.upstream.ratelimit.rate", this, UpstreamRateLimiter::currentRate)
+                .description("Upstream requests let through in the last full second")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Completes when the poll gets its permit, without holding a thread meanwhile. Already
+     * complete when a permit is free and nobody is waiting; otherwise completed on the task
+     * scheduler, where the poll goes on.
+     */
+    public CompletableFuture<Void> acquire(EventPriority tier) {
+        synchronized (this) {
+            long now = clock.getAsLong();
+            refill(now);
+            if (waitingCount == 0 && storedPermits >= 1) {
+                storedPermits -= 1;
+                granted(now);
+                throttledWait.record(0, TimeUnit.NANOSECONDS);
+                return CompletableFuture.completedFuture(null);
+            }
+            Waiter waiter = new Waiter(now, new CompletableFuture<>());
+            waiting.get(tier).add(waiter);
+            waitingCount++;
+            scheduleRelease();
+            return waiter.permit();
+        }
+    }
+
+    /**
+     * Hands the permits that accrued to the waiting polls, highest tier first.
+     */
+    void release() {
+        List<Waiter> granted = new ArrayList<>();
+        synchronized (this) {
+            releaseScheduled = false;
+            long now = clock.getAsLong();
+            refill(now);
+            while (storedPermits >= 1 && waitingCount > 0) {
+                Waiter next = nextWaiter();
+                storedPermits -= 1;
+                granted(now);
+                throttledWait.record(now - next.queuedAt(), TimeUnit.NANOSECONDS);
+                granted.add(next);
+            }
+            if (waitingCount > 0) {
+                scheduleRelease();
+            }
+        }
+        // Outside the lock, each on its own task: polls granted together must not run one after another here
+        granted.forEach(waiter -> waiter.permit().completeAsync(() -> null, resumeOn));
+    }
+
+    // Not the poll executor: its concurrency cap was already taken by the waiting poll
+    private static Executor resumeExecutor(String executorMode, TaskScheduler taskScheduler) {
+        if ("virtual".equals(executorMode)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ratelimit-poll-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        return task -> taskScheduler.schedule(task, Instant.now());
+    }
+
+    public synchronized int queued() {
+        return waitingCount;
+    }
+
+    public synchronized int currentRate() {
+        long second = Math.floorDiv(clock.getAsLong(), SECOND);
+        if (second == windowSecond) {
+            return lastSecondCount;
+        }
+        return second == windowSecond + 1 ? windowCount : 0;
+    }
+
+    // Guarded by this
+    private void refill(long now) {
+        if (now > refilledAt) {
+            storedPermits = Math.min(burst, storedPermits + (double) (now - refilledAt) / nanosPerPermit);
+            refilledAt = now;
+        }
+    }
+
+    // Guarded by this; waitingCount > 0
+    private Waiter nextWaiter() {
+        for (EventPriority tier : EventPriority.values()) {
+            Waiter waiter = waiting.get(tier).poll();
+            if (waiter != null) {
+                waitingCount--;
+                return waiter;
+            }
+        }
+        throw new IllegalStateException("No poll waiting for a permit");
+    }
+
+    // Guarded by this; one release is pending at a time, at the moment the next permit accrues
+    private void scheduleRelease() {
+        if (releaseScheduled) {
+            return;
+        }
+        releaseScheduled = true;
+        long waitNanos = (long) Math.ceil((1 - storedPermits) * nanosPerPermit);
+        taskScheduler.schedule(this::release, Instant.now().plusNanos(waitNanos));
+    }
+
+    // Guarded by this
+    private void granted(long now) {
+        long second = Math.floorDiv(now, SECOND);
+        if (second != windowSecond) {
+            lastSecondCount = second == windowSecond + 1 ? windowCount : 0;
+            windowSecond = second;
+            windowCount = 0;
+        }
+        windowCount++;
+    }
+
+    private record Waiter(long queuedAt, CompletableFuture<Void> permit) {
+    }
+}
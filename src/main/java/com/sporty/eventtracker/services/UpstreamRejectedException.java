@@ -0,0 +1,19 @@
+package com.sporty.eventtracker.services;
+
+/**
+ * Thrown instead of calling the upstream when the circuit breaker is open or the bulkhead is full.
+ * Carries no stack trace: it is expected, frequent while the upstream is down, and only ever logged.
+ */
+public class UpstreamRejectedException extends RuntimeException {
+
+    private final String reason;
+
+    public UpstreamRejectedException(String reason) {
+        super("Upstream call rejected: " + reason, null, false, false);
+        this.reason = reason;
+    }
+
+    public String reason() {
+        return reason;
+    }
+}
@@ -0,0 +1,136 @@
+package com.sporty.eventtracker.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers each event's cache validator (ETag, or Last-Modified when there is none) so
+ * single-event polls can be sent as conditional requests. A 304 answer costs the upstream no
+ * body and us no transfer; the score is known to be the one we saw last time.
+ *
+ * Entries exist from tracking start to stop; a response arriving after the stop only
+ * updates an entry that is still there, so it cannot leak one.
+ */
+@Component
+public class UpstreamValidators {
+
+    private record Validator(String etag, long lastModified, long bodyBytes, String score) {
+    }
+
+    private static final Validator NONE = new Validator(null, -1, 0, null); // Tracked, no validator yet
+
+    private final boolean enabled;
+    private final Map<String, Validator> validators = new ConcurrentHashMap<>();
+
+    private final Counter notModified;
+    private final Counter modified;
+    private final Counter bytesSaved;
+    private final Counter unknownScore;
+
+    public UpstreamValidators(MeterRegistry meterRegistry,
+                              @Value("${app.external-api.conditional.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+        this.notModified = conditional(meterRegistry, "not-modified");
+        this.modified = conditional(meterRegistry, "modified");
+        this.bytesSaved = Counter.builder("tracker.poll.bytes.saved")
+                .description("Response body bytes not transferred thanks to 304 answers")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.unknownScore = Counter.builder("tracker.poll.conditional.dropped")
+                .description("304 answers with no remembered score, so nothing was published for them")
+                .register(meterRegistry);
+        Gauge.builder("tracker.poll.conditional.hit.ratio", this, UpstreamValidators::hitRatio)
+                .description("Share of conditional polls answered with 304 Not Modified")
+                .register(meterRegistry);
+    }
+
+    private static Counter conditional(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("tracker.poll.conditional")
+                .description("Single-event polls by conditional request outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * If-None-Match, or If-Modified-Since, for the event's last full response; empty before that.
+     */
+    public HttpHeaders requestHeaders(String eventId) {
+        HttpHeaders headers = new HttpHeaders();
+        Validator validator = validators.get(eventId);
+        if (validator != null && validator != NONE) {
+            if (validator.etag() != null) {
+                headers.setIfNoneMatch(validator.etag());
+            } else {
+                headers.setIfModifiedSince(validator.lastModified());
+            }
+        }
+        return headers;
+    }
+
+    /**
+     * Records a 304 and returns the score it stands for, or null if none is remembered: then
+     * the poll publishes nothing, which is counted on its own whether or not change detection is on.
+     */
+    public String onNotModified(String eventId) {
+        notModified.increment();
+        Validator validator = validators.get(eventId);
+        if (validator == null || validator == NONE || validator.score() == null) {
+            unknownScore.increment();
+            return null;
+        }
+        bytesSaved.increment(validator.bodyBytes());
+        return validator.score();
+    }
+
+    /**
+     * Records a full response and remembers its validator; returns the body.
+     */
+    public Map<String, String> onModified(String eventId, ResponseEntity<Map<String, String>> response) {
+        modified.increment();
+        HttpHeaders headers = response.getHeaders();
+        Map<String, String> body = response.getBody();
+        String etag = headers.getETag();
+        long lastModified = headers.getLastModified();
+        if (body == null || (etag == null && lastModified < 0)) {
+            forget(eventId);
+        } else {
+            validators.replace(eventId, new Validator(etag, lastModified, Math.max(0, headers.getContentLength()),
+                    body.get("currentScore")));
+        }
+        return body;
+    }
+
+    public void track(String eventId) {
+        if (enabled) {
+            validators.putIfAbsent(eventId, NONE);
+        }
+    }
+
+    /**
+     * Drops the event's validator, so its next poll is unconditional; the event stays tracked.
+     */
+    public void forget(String eventId) {
+        validators.replace(eventId, NONE);
+    }
+
+    public void evict(String eventId) {
+        validators.remove(eventId);
+    }
+
+    private double hitRatio() {
+        double total = notModified.count() + modified.count();
+        return total == 0 ? 0 : notModified.count() / total;
+    }
+}
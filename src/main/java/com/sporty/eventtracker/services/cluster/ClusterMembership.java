@@ -0,0 +1,129 @@
+package com.sporty.eventtracker.services.cluster;
+
+import com.sporty.eventtracker.interfaces.EventScheduler;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.listener.BatchMessageListener;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cluster mode: this instance tracks exactly the events whose status-topic partitions the
+ * consumer group assigned to it.
+ *
+ * On assignment the partition is replayed from the beginning (the topic is compacted, so that
+ * is the current live set) and its events are started; on revocation they are stopped. Node
+ * joins and leaves are plain consumer-group rebalances, and the cooperative-sticky assignor
+ * only moves the partitions that change owner. All callbacks run on the container's single
+ * consumer thread.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cluster.enabled", havingValue = "true")
+public class ClusterMembership implements BatchMessageListener<String, String>, ConsumerAwareRebalanceListener {
+
+    static final String LIVE = "LIVE";
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterMembership.class);
+
+    private final EventScheduler eventScheduler; // The local, mode-specific scheduler
+    private final Map<Integer, Set<String>> ownedEvents = new ConcurrentHashMap<>(); // By owned partition
+
+    public ClusterMembership(EventScheduler eventScheduler, MeterRegistry meterRegistry) {
+        this.eventScheduler = eventScheduler;
+        Gauge.builder("tracker.cluster.owned.partitions", ownedEvents, Map::size)
+                .description("Status-topic partitions owned by this instance")
+                .register(meterRegistry);
+        Gauge.builder("tracker.cluster.owned.events", this, ClusterMembership::ownedEventCount)
+                .description("Live events owned by this instance")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onMessage(List<ConsumerRecord<String, String>> records) {
+        // Last update per event wins within the batch
+        Map<String, ConsumerRecord<String, String>> latest = new LinkedHashMap<>();
+        for (ConsumerRecord<String, String> record : records) {
+            if (record.key() != null) {
+                latest.put(record.key(), record);
+            }
+        }
+
+        List<String> toStart = new ArrayList<>();
+        List<String> toStop = new ArrayList<>();
+        for (ConsumerRecord<String, String> record : latest.values()) {
+            Set<String> events = ownedEvents.computeIfAbsent(record.partition(), p -> ConcurrentHashMap.newKeySet());
+            if (LIVE.equals(record.value())) {
+                if (events.add(record.key())) {
+                    toStart.add(record.key());
+                }
+            } else if (events.remove(record.key())) {
+                toStop.add(record.key());
+            }
+        }
+
+        if (!toStop.isEmpty()) {
+            eventScheduler.stopTrackingAll(toStop);
+        }
+        if (!toStart.isEmpty()) {
+            eventScheduler.startTrackingAll(toStart);
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        if (partitions.isEmpty()) {
+            return;
+        }
+        partitions.forEach(partition -> ownedEvents.putIfAbsent(partition.partition(), ConcurrentHashMap.newKeySet()));
+        consumer.seekToBeginning(partitions);
+        logger.info("Took ownership of partitions {}, replaying their live events", partitions);
+    }
+
+    @Override
+    public void onPartitionsRevokedAfterCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        release(partitions);
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        release(partitions);
+    }
+
+    private void release(Collection<TopicPartition> partitions) {
+        List<String> released = new ArrayList<>();
+        for (TopicPartition partition : partitions) {
+            Set<String> events = ownedEvents.remove(partition.partition());
+            if (events != null) {
+                released.addAll(events);
+            }
+        }
+        if (!released.isEmpty()) {
+            eventScheduler.stopTrackingAll(released);
+        }
+        if (!partitions.isEmpty()) {
+            logger.info("Released partitions {} ({} events)", partitions, released.size());
+        }
+    }
+
+    public int ownedEventCount() {
+        int count = 0;
+        for (Set<String> events : ownedEvents.values()) {
+            count += events.size();
+        }
+        return count;
+    }
+}
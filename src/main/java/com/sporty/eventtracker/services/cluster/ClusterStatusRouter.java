@@ -0,0 +1,72 @@
+package com.sporty.eventtracker.services.cluster;
+
+import com.sporty.eventtracker.dto.EventStatus;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Cluster mode: publishes status updates to the compacted status topic, keyed by eventId.
+ * Kafka's key hash picks the partition, and whichever instance owns that partition
+ * ({@link ClusterMembership}) starts or stops tracking. NOT_LIVE is sent as a tombstone,
+ * so compaction leaves exactly the live events in the topic.
+ *
+ * Uses its own String producer; declaring a KafkaTemplate bean would replace the
+ * auto-configured one that ScoreUpdateProducer relies on.
+ */
+@Service
+@ConditionalOnProperty(name = "app.cluster.enabled", havingValue = "true")
+public class ClusterStatusRouter {
+
+    private final DefaultKafkaProducerFactory<String, String> producerFactory;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final String statusTopic;
+
+    public ClusterStatusRouter(KafkaProperties kafkaProperties,
+                               @Value("${app.cluster.status-topic:event-status}") String statusTopic) {
+        Map<String, Object> configs = new HashMap<>(kafkaProperties.buildProducerProperties(null));
+        configs.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configs.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configs.put(ProducerConfig.ACKS_CONFIG, "all"); // A lost status means a match nobody polls
+        this.producerFactory = new DefaultKafkaProducerFactory<>(configs);
+        this.kafkaTemplate = new KafkaTemplate<>(producerFactory);
+        this.statusTopic = statusTopic;
+    }
+
+    /**
+     * Completes once the broker has acknowledged the update.
+     */
+    public CompletableFuture<Void> route(String eventId, EventStatus status) {
+        return send(eventId, status == EventStatus.LIVE);
+    }
+
+    public CompletableFuture<Void> routeAll(Collection<String> live, Collection<String> notLive) {
+        List<CompletableFuture<Void>> sends = new ArrayList<>(live.size() + notLive.size());
+        notLive.forEach(eventId -> sends.add(send(eventId, false)));
+        live.forEach(eventId -> sends.add(send(eventId, true)));
+        return CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new));
+    }
+
+    private CompletableFuture<Void> send(String eventId, boolean live) {
+        return kafkaTemplate.send(statusTopic, eventId, live ? ClusterMembership.LIVE : null)
+                .thenApply(result -> null);
+    }
+
+    @PreDestroy
+    public void close() {
+        producerFactory.destroy();
+    }
+}
@@ -0,0 +1,285 @@
+package com.sporty.eventtracker.services.fanout;
+
+import com.sporty.eventtracker.dto.ScoreUpdate;
+import com.sporty.eventtracker.services.serialization.ScoreUpdateJsonSerializer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Pushes published scores to Server-Sent Events subscribers once Kafka has acknowledged them.
+ * <ul>
+ *   <li>Keeps the latest score of every tracked event, so a new subscriber gets it right away.</li>
+ *   <li>Each subscriber buffers at most one update: a newer score replaces one not yet written
+ *       (conflation). A slow client therefore only ever sees fewer, never older, updates.</li>
+ *   <li>Writes happen on a small writer pool, never on the poll thread, and each subscriber is
+ *       drained by at most one writer at a time. A write still blocked after write-timeout-ms
+ *       closes its stream, so stalled clients cannot keep the writers for themselves.</li>
+ * </ul>
+ * Connections are async servlet requests and hold no thread while idle.
+ */
+@Component
+@ConditionalOnProperty(name = "app.fanout.enabled", havingValue = "true")
+public class ScoreFanout {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScoreFanout.class);
+
+    // Created when tracking starts, so a score published after stopTracking cannot bring one back
+    private final Map<String, AtomicReference<ScoreUpdate>> latest = new ConcurrentHashMap<>();
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ScoreUpdateJsonSerializer serializer = new ScoreUpdateJsonSerializer();
+    private final ExecutorService writers;
+    private final int maxSubscribers;
+    private final long emitterTimeoutMillis;
+    private final long writeTimeoutNanos;
+
+    private final Counter sent;
+    private final Counter conflated;
+    private final Counter rejected;
+    private final Counter stalled;
+
+    public ScoreFanout(MeterRegistry meterRegistry,
+                       @Value("${app.fanout.max-subscribers:15000}") int maxSubscribers,
+                       @Value("${app.fanout.writer-threads:4}") int writerThreads,
+                       @Value("${app.fanout.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+                       @Value("${app.fanout.write-timeout-ms:5000}") long writeTimeoutMillis) {
+        this.maxSubscribers = maxSubscribers;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMillis);
+        this.writers = Executors.newFixedThreadPool(Math.max(1, writerThreads), new CustomizableThreadFactory("sse-writer-"));
+
+        Gauge.builder("tracker.fanout.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open score stream connections")
+                .register(meterRegistry);
+        this.sent = Counter.builder("tracker.fanout.sent")
+                .description("Score updates written to stream subscribers")
+                .register(meterRegistry);
+        this.conflated = Counter.builder("tracker.fanout.conflated")
+                .description("Updates replaced by a newer score before a slow subscriber received them")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("tracker.fanout.rejected")
+                .description("Subscriptions refused because max-subscribers was reached")
+                .register(meterRegistry);
+        this.stalled = Counter.builder("tracker.fanout.stalled")
+                .description("Streams closed because a write was blocked longer than write-timeout-ms")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        writers.shutdownNow();
+    }
+
+    /**
+     * Opens a stream for one event, primed with its latest score if there is one.
+     * Throws {@link IllegalStateException} when the node is at max-subscribers.
+     */
+    public SseEmitter subscribe(String eventId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            rejected.increment();
+            throw new IllegalStateException("Too many score stream subscribers");
+        }
+        SseEmitter emitter = newEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(eventId, emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        // compute, not computeIfAbsent + add: a concurrent close may be removing the emptied set
+        subscribers.compute(eventId, (id, set) -> {
+            Set<Subscriber> listening = set == null ? ConcurrentHashMap.newKeySet() : set;
+            listening.add(subscriber);
+            return listening;
+        });
+
+        AtomicReference<ScoreUpdate> snapshot = latest.get(eventId);
+        ScoreUpdate update = snapshot != null ? snapshot.get() : null;
+        if (update != null) {
+            subscriber.offerSnapshot(frame(update));
+        }
+        return emitter;
+    }
+
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    /**
+     * Called for every published score. Serializes once, however many subscribers there are.
+     */
+    public void publish(ScoreUpdate update) {
+        AtomicReference<ScoreUpdate> snapshot = latest.get(update.eventId());
+        if (snapshot != null) {
+            snapshot.accumulateAndGet(update, (current, next) ->
+                    current == null || next.polledAt() >= current.polledAt() ? next : current);
+        }
+        Set<Subscriber> listening = subscribers.get(update.eventId());
+        if (listening == null || listening.isEmpty()) {
+            return;
+        }
+        Frame frame = frame(update);
+        for (Subscriber subscriber : listening) {
+            subscriber.offer(frame);
+        }
+    }
+
+    /**
+     * Starts keeping the event's latest score; called when tracking starts.
+     */
+    public void track(String eventId) {
+        latest.putIfAbsent(eventId, new AtomicReference<>());
+    }
+
+    /**
+     * Closes streams whose current write has been blocked longer than write-timeout-ms. Closing
+     * the connection fails the blocked write, which gives its writer thread back.
+     */
+    @Scheduled(fixedDelayString = "${app.fanout.stall-check-interval-ms:1000}")
+    public void closeStalled() {
+        long now = System.nanoTime();
+        for (Set<Subscriber> listening : subscribers.values()) {
+            for (Subscriber subscriber : listening) {
+                if (subscriber.stalled(now)) {
+                    subscriber.abandon();
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops the snapshot of an event that is no longer tracked. Open streams stay open
+     * and resume if the event goes live again.
+     */
+    public void evict(String eventId) {
+        latest.remove(eventId);
+    }
+
+    public int subscribers() {
+        return subscriberCount.get();
+    }
+
+    private Frame frame(ScoreUpdate update) {
+        return new Frame(update.polledAt(),
+                new String(serializer.serialize(null, update), StandardCharsets.US_ASCII));
+    }
+
+    private record Frame(long polledAt, String json) {
+    }
+
+    private final class Subscriber {
+        private final String eventId;
+        private final SseEmitter emitter;
+        private final AtomicReference<Frame> pending = new AtomicReference<>(); // The one-slot buffer
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile long writeStartedAt; // 0 while no write is in progress
+        private long lastSentPolledAt = Long.MIN_VALUE; // Only touched by the draining writer
+
+        Subscriber(String eventId, SseEmitter emitter) {
+            this.eventId = eventId;
+            this.emitter = emitter;
+        }
+
+        void offer(Frame frame) {
+            if (pending.getAndSet(frame) != null) {
+                conflated.increment();
+            }
+            scheduleDrain();
+        }
+
+        // The snapshot is read before registration completes, so it only fills an empty slot;
+        // drain() also skips it if a newer score was written meanwhile
+        void offerSnapshot(Frame frame) {
+            if (pending.compareAndSet(null, frame)) {
+                scheduleDrain();
+            }
+        }
+
+        boolean stalled(long now) {
+            long started = writeStartedAt;
+            return started != 0 && now - started > writeTimeoutNanos;
+        }
+
+        void abandon() {
+            if (closed.get()) {
+                return;
+            }
+            stalled.increment();
+            logger.warn("Closing score stream for event {}: write blocked for over {} ms", eventId,
+                    TimeUnit.NANOSECONDS.toMillis(writeTimeoutNanos));
+            close();
+            emitter.completeWithError(new IOException("Score stream write stalled"));
+        }
+
+        private void scheduleDrain() {
+            if (closed.get() || !draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                writers.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false); // Shutting down
+            }
+        }
+
+        private void drain() {
+            Frame frame;
+            while (!closed.get() && (frame = pending.getAndSet(null)) != null) {
+                if (frame.polledAt() < lastSentPolledAt) {
+                    continue; // A snapshot older than a score already written
+                }
+                writeStartedAt = System.nanoTime();
+                try {
+                    emitter.send(SseEmitter.event().name("score").id(Long.toString(frame.polledAt())).data(frame.json()));
+                    lastSentPolledAt = frame.polledAt();
+                    sent.increment();
+                } catch (IOException | IllegalStateException e) {
+                    logger.debug("Score stream for event {} closed: {}", eventId, e.getMessage());
+                    close();
+                    emitter.completeWithError(e);
+                    return;
+                } finally {
+                    writeStartedAt = 0;
+                }
+            }
+            draining.set(false);
+            if (pending.get() != null) {
+                scheduleDrain(); // Offered between the last getAndSet and clearing the flag
+            }
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            subscriberCount.decrementAndGet();
+            subscribers.computeIfPresent(eventId, (id, set) -> {
+                set.remove(this);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+}
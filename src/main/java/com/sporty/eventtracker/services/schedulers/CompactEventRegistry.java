@@ -0,0 +1,322 @@
+package com.sporty.eventtracker.services.schedulers;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tracked events stored in parallel primitive arrays instead of one map node, key String and
+ * scheduled task per event.
+ *
+ * Ids are dictionary-encoded: "match-123" becomes a shared prefix code ("match-") plus a
+ * numeric suffix held as a long, and a purely numeric id is just the long. No String is
+ * retained for them; one is rebuilt when the event is handed to a poll. Ids without a numeric
+ * suffix keep their String. Each slot packs the status and the next due time into one long.
+ * An open-addressing index (linear probing, at most half full) maps an id to its slot.
+ *
+ * Measured with JOL that is about 65 bytes retained per event, growth slack included, against
+ * about 95 for a set node plus its key and 290 with a scheduled task (EventRegistryFootprint).
+ * All methods synchronize on the registry: status changes are rare next to polls, and the
+ * due scan is a tight loop over primitive arrays.
+ */
+@Component
+@ConditionalOnProperty(name = "app.scheduling.registry.type", havingValue = "compact")
+public final class CompactEventRegistry extends AbstractSet<String> {
+
+    /**
+     * Receives each due event during {@link #pollDue}, under the registry lock: keep it cheap.
+     */
+    @FunctionalInterface
+    public interface DueListener {
+        void onDue(String eventId, long lateMillis, long skippedRuns);
+    }
+
+    private static final long FREE = 0;
+    private static final long LIVE = 1;
+    private static final long STATUS_MASK = 0b11;
+    private static final int DUE_SHIFT = 2;
+
+    private static final int RAW = -1; // Prefix code of an id kept as a String
+    private static final int MAX_PREFIXES = 1 << 16; // Beyond this, new prefixes are kept as Strings
+    private static final int MAX_SUFFIX_DIGITS = 18; // Always fits a long
+
+    // Per slot
+    private long[] state; // Next due time (epoch millis) << DUE_SHIFT | status
+    private long[] numbers; // Numeric suffix
+    private int[] prefixCodes; // Index into prefixes, or RAW
+    private int[] hashes; // String.hashCode() of the id
+    private String[] names; // Only for RAW ids
+
+    private int[] index; // slot + 1, 0 = empty
+    private int[] freeSlots;
+    private int freeCount;
+    private int highWater; // Slots above this were never used
+    private int size;
+
+    private final List<String> prefixes = new ArrayList<>();
+    private final Map<String, Integer> prefixLookup = new HashMap<>();
+
+    public CompactEventRegistry(@Value("${app.scheduling.registry.initial-capacity:1024}") int initialCapacity) {
+        int capacity = Math.max(16, initialCapacity);
+        state = new long[capacity];
+        numbers = new long[capacity];
+        prefixCodes = new int[capacity];
+        hashes = new int[capacity];
+        names = new String[capacity];
+        freeSlots = new int[capacity];
+        index = new int[tableSizeFor(capacity)];
+    }
+
+    @Override
+    public boolean add(String eventId) {
+        return add(eventId, System.currentTimeMillis()); // Due right away
+    }
+
+    /**
+     * Registers the event with its first due time; returns false if it is already tracked.
+     */
+    public synchronized boolean add(String eventId, long dueMillis) {
+        if (find(eventId) >= 0) {
+            return false;
+        }
+        int slot = allocateSlot();
+        encode(slot, eventId);
+        hashes[slot] = eventId.hashCode();
+        state[slot] = (dueMillis << DUE_SHIFT) | LIVE;
+        size++;
+        if (size * 2 > index.length) {
+            rebuildIndex(index.length * 2);
+        } else {
+            insert(slot);
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized boolean remove(Object o) {
+        if (!(o instanceof String eventId)) {
+            return false;
+        }
+        int position = find(eventId);
+        if (position < 0) {
+            return false;
+        }
+        int slot = index[position] - 1;
+        deleteAt(position);
+        state[slot] = FREE;
+        names[slot] = null;
+        freeSlots[freeCount++] = slot;
+        size--;
+        return true;
+    }
+
+    @Override
+    public synchronized boolean contains(Object o) {
+        return o instanceof String eventId && find(eventId) >= 0;
+    }
+
+    @Override
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Walks a snapshot: events added or removed meanwhile are not reflected.
+     */
+    @Override
+    public Iterator<String> iterator() {
+        return snapshot().iterator();
+    }
+
+    @Override
+    public Object[] toArray() {
+        return snapshot().toArray();
+    }
+
+    public synchronized List<String> snapshot() {
+        List<String> events = new ArrayList<>(size);
+        for (int slot = 0; slot < highWater; slot++) {
+            if ((state[slot] & STATUS_MASK) == LIVE) {
+                events.add(decode(slot));
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Reports every event due at {@code nowMillis} and moves its due time one interval on.
+     * An event that fell a whole interval or more behind is reported once, with the runs it
+     * skipped, and re-phased so the next report is not another catch-up.
+     */
+    public synchronized void pollDue(long nowMillis, long intervalMillis, DueListener listener) {
+        for (int slot = 0; slot < highWater; slot++) {
+            long packed = state[slot];
+            if ((packed & STATUS_MASK) != LIVE) {
+                continue;
+            }
+            long due = packed >>> DUE_SHIFT;
+            if (due > nowMillis) {
+                continue;
+            }
+            long skipped = (nowMillis - due) / intervalMillis;
+            due += skipped * intervalMillis;
+            state[slot] = ((due + intervalMillis) << DUE_SHIFT) | LIVE;
+            listener.onDue(decode(slot), nowMillis - due, skipped);
+        }
+    }
+
+    /**
+     * Slots allocated so far, live or free; the arrays never shrink.
+     */
+    public synchronized int capacity() {
+        return state.length;
+    }
+
+    private void encode(int slot, String eventId) {
+        int suffixStart = eventId.length();
+        while (suffixStart > 0 && isDigit(eventId.charAt(suffixStart - 1))) {
+            suffixStart--;
+        }
+        int digits = eventId.length() - suffixStart;
+        // Leading zeros would not survive the round trip through a long
+        boolean numeric = digits > 0 && digits <= MAX_SUFFIX_DIGITS
+                && (digits == 1 || eventId.charAt(suffixStart) != '0');
+        int code = numeric ? prefixCode(eventId.substring(0, suffixStart)) : RAW;
+        if (code == RAW) {
+            prefixCodes[slot] = RAW;
+            names[slot] = eventId;
+            return;
+        }
+        prefixCodes[slot] = code;
+        numbers[slot] = Long.parseLong(eventId, suffixStart, eventId.length(), 10);
+    }
+
+    private int prefixCode(String prefix) {
+        Integer code = prefixLookup.get(prefix);
+        if (code != null) {
+            return code;
+        }
+        if (prefixes.size() >= MAX_PREFIXES) {
+            return RAW;
+        }
+        prefixes.add(prefix);
+        prefixLookup.put(prefix, prefixes.size() - 1);
+        return prefixes.size() - 1;
+    }
+
+    private String decode(int slot) {
+        int code = prefixCodes[slot];
+        return code == RAW ? names[slot] : prefixes.get(code) + numbers[slot];
+    }
+
+    // Compares without rebuilding the id
+    private boolean matches(int slot, String eventId) {
+        if (hashes[slot] != eventId.hashCode()) {
+            return false;
+        }
+        int code = prefixCodes[slot];
+        if (code == RAW) {
+            return names[slot].equals(eventId);
+        }
+        String prefix = prefixes.get(code);
+        int length = eventId.length();
+        if (!eventId.startsWith(prefix) || length - prefix.length() > MAX_SUFFIX_DIGITS) {
+            return false;
+        }
+        long remaining = numbers[slot];
+        for (int i = length - 1; i >= prefix.length(); i--) {
+            char c = eventId.charAt(i);
+            if (!isDigit(c) || c - '0' != remaining % 10) {
+                return false;
+            }
+            remaining /= 10;
+            if (remaining == 0 && i > prefix.length()) {
+                return false; // Id has more digits, e.g. a leading zero
+            }
+        }
+        return remaining == 0 && length > prefix.length();
+    }
+
+    private int find(String eventId) {
+        int mask = index.length - 1;
+        for (int position = mix(eventId.hashCode()) & mask; ; position = (position + 1) & mask) {
+            int entry = index[position];
+            if (entry == 0) {
+                return -1;
+            }
+            if (matches(entry - 1, eventId)) {
+                return position;
+            }
+        }
+    }
+
+    private void insert(int slot) {
+        int mask = index.length - 1;
+        int position = mix(hashes[slot]) & mask;
+        while (index[position] != 0) {
+            position = (position + 1) & mask;
+        }
+        index[position] = slot + 1;
+    }
+
+    // Backward-shift deletion keeps probe chains intact without tombstones
+    private void deleteAt(int position) {
+        int mask = index.length - 1;
+        int gap = position;
+        for (int i = (position + 1) & mask; index[i] != 0; i = (i + 1) & mask) {
+            int home = mix(hashes[index[i] - 1]) & mask;
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                index[gap] = index[i];
+                gap = i;
+            }
+        }
+        index[gap] = 0;
+    }
+
+    private void rebuildIndex(int tableSize) {
+        index = new int[tableSize];
+        for (int slot = 0; slot < highWater; slot++) {
+            if ((state[slot] & STATUS_MASK) == LIVE) {
+                insert(slot);
+            }
+        }
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (highWater == state.length) {
+            int capacity = state.length * 2;
+            state = Arrays.copyOf(state, capacity);
+            numbers = Arrays.copyOf(numbers, capacity);
+            prefixCodes = Arrays.copyOf(prefixCodes, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+            names = Arrays.copyOf(names, capacity);
+            freeSlots = Arrays.copyOf(freeSlots, capacity);
+        }
+        return highWater++;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    // Spreads String hash codes, which differ only in their low bits for ids like "match-1", "match-2"
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        return Integer.highestOneBit(Math.max(2, capacity) * 4 - 1);
+    }
+}
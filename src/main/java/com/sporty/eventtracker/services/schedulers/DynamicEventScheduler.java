@@ -1,14 +1,32 @@
 package com.sporty.eventtracker.services.schedulers;
 
+import com.sporty.eventtracker.dto.EventPriority;
 import com.sporty.eventtracker.interfaces.EventScheduler;
+import com.sporty.eventtracker.interfaces.PollTask;
+import com.sporty.eventtracker.services.AdaptivePollingPolicy;
+import com.sporty.eventtracker.services.PollCoalescer;
 import com.sporty.eventtracker.services.ScorePollingService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.lang.Nullable;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -17,39 +35,185 @@ import org.slf4j.LoggerFactory;
 public class DynamicEventScheduler implements EventScheduler {
 
     private static final Duration POLLING_INTERVAL = Duration.ofSeconds(10);
+    private static final Duration REGISTRY_TICK = Duration.ofMillis(100); // Due-time resolution with the compact registry
+    private static final int DISPATCH_CHUNK = 32; // Due events handed to the scheduler pool per task
     private final TaskScheduler taskScheduler;
+    private final TaskExecutor pollExecutor; // Inline (platform) or one virtual thread per poll
     private final ScorePollingService pollingService; 
+    private final Duration pollingInterval; // min-interval when adaptive polling is on
+    private final PollCoalescer coalescer; // Only present when batch fetching is enabled
+    private final Timer scheduleLag;
+    private final Counter collapsedRuns;
     private static final Logger logger = LoggerFactory.getLogger(ScorePollingService.class);
 
     private final Map<String, ScheduledFuture<?>> activeTasks = new ConcurrentHashMap<>();
 
-    public DynamicEventScheduler(TaskScheduler taskScheduler, ScorePollingService pollingService) {
+    // With app.scheduling.registry.type=compact: events live in the registry with a packed due time
+    // and one ticker fires them, instead of a ScheduledFuture and lambda per event
+    private final CompactEventRegistry registry;
+    private ScheduledFuture<?> ticker;
+
+    public DynamicEventScheduler(TaskScheduler taskScheduler,
+                                 @Qualifier("pollExecutor") TaskExecutor pollExecutor,
+                                 ScorePollingService pollingService,
+                                 AdaptivePollingPolicy adaptivePolicy,
+                                 MeterRegistry meterRegistry,
+                                 @Nullable PollCoalescer coalescer,
+                                 @Nullable CompactEventRegistry registry) {
         this.taskScheduler = taskScheduler;
+        this.pollExecutor = pollExecutor;
         this.pollingService = pollingService;
+        this.pollingInterval = adaptivePolicy.tickInterval(POLLING_INTERVAL);
+        this.coalescer = coalescer;
+        this.registry = registry;
+        this.scheduleLag = ScheduleLag.timer(meterRegistry, "dynamic");
+        this.collapsedRuns = ScheduleLag.collapsed(meterRegistry, "dynamic");
+        Gauge.builder("tracker.events.tracked", this, DynamicEventScheduler::trackedEvents)
+                .description("Events currently being polled")
+                .tag("mode", "dynamic")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (registry != null) {
+            ticker = taskScheduler.scheduleAtFixedRate(this::tick, REGISTRY_TICK);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (ticker != null) {
+            ticker.cancel(false);
+        }
     }
 
     @Override
-    public void startTracking(String eventId) {
+    public boolean startTracking(String eventId) {
+        pollingService.onTrackingStarted(eventId);
+        if (registry != null) {
+            if (registry.add(eventId, System.currentTimeMillis())) {
+                logger.info("Starting dynamic tracking for event: {}", eventId);
+                return true;
+            }
+            return false;
+        }
+        boolean[] added = {false};
         activeTasks.computeIfAbsent(eventId, id -> {
             logger.info("Starting dynamic tracking for event: {}", id);
+            added[0] = true;
 
-            return taskScheduler.scheduleAtFixedRate(() -> {
-                try {
-                    org.slf4j.MDC.put("eventId", id);
+            return taskScheduler.scheduleAtFixedRate(pollTask(id, System.nanoTime()), pollingInterval);
+        });
+        return added[0];
+    }
 
-                    pollingService.pollSingleEvent(id);
-                } finally {
-                    org.slf4j.MDC.remove("eventId");
+    /**
+     * A kickoff burst would otherwise put every event on the same phase, so first polls
+     * are spread evenly across one interval.
+     */
+    @Override
+    public int startTrackingAll(Collection<String> eventIds) {
+        Instant now = Instant.now();
+        long nowNanos = System.nanoTime();
+        long stepNanos = pollingInterval.toNanos() / Math.max(1, eventIds.size());
+        int started = 0;
+        int offset = 0;
+        for (String eventId : eventIds) {
+            long firstPollOffset = stepNanos * offset++;
+            pollingService.onTrackingStarted(eventId);
+            if (registry != null) {
+                if (registry.add(eventId, now.toEpochMilli() + TimeUnit.NANOSECONDS.toMillis(firstPollOffset))) {
+                    started++;
                 }
-            }, POLLING_INTERVAL);
+                continue;
+            }
+            Instant firstPoll = now.plusNanos(firstPollOffset);
+            boolean[] added = {false};
+            activeTasks.computeIfAbsent(eventId, id -> {
+                added[0] = true;
+                return taskScheduler.scheduleAtFixedRate(pollTask(id, nowNanos + firstPollOffset), firstPoll, pollingInterval);
+            });
+            if (added[0]) {
+                started++;
+            }
+        }
+        logger.info("Starting dynamic tracking for {} of {} events", started, eventIds.size());
+        return started;
+    }
+
+    private Runnable pollTask(String id, long firstPollNanos) {
+        ScheduleLag lag = new ScheduleLag(scheduleLag, pollingInterval, firstPollNanos);
+        return () -> {
+            if (lag.fired()) {
+                // Backlog from a stall: the next run is already due and polls once for all of them
+                collapsedRuns.increment();
+                return;
+            }
+            poll(id);
+        };
+    }
+
+    private void poll(String id) {
+        try {
+            org.slf4j.MDC.put("eventId", id);
+
+            if (coalescer != null) {
+                coalescer.submit(id);
+            } else {
+                pollExecutor.execute(PollTask.of(() -> pollingService.pollSingleEvent(id)));
+            }
+        } finally {
+            org.slf4j.MDC.remove("eventId");
+        }
+    }
+
+    /**
+     * Compact-registry mode: collects the due events under the registry lock, then hands them to
+     * the scheduler pool in chunks of DISPATCH_CHUNK, so polls still run in parallel without a
+     * task and future per event.
+     */
+    void tick() {
+        List<String> due = new ArrayList<>();
+        registry.pollDue(System.currentTimeMillis(), pollingInterval.toMillis(), (eventId, lateMillis, skippedRuns) -> {
+            scheduleLag.record(lateMillis, TimeUnit.MILLISECONDS);
+            if (skippedRuns > 0) {
+                // Backlog from a stall: polled once for all of the missed runs
+                collapsedRuns.increment(skippedRuns);
+            }
+            due.add(eventId);
         });
+        Instant now = Instant.now();
+        for (int from = 0; from < due.size(); from += DISPATCH_CHUNK) {
+            List<String> chunk = due.subList(from, Math.min(from + DISPATCH_CHUNK, due.size()));
+            taskScheduler.schedule(() -> chunk.forEach(this::poll), now);
+        }
+    }
+
+    private int trackedEvents() {
+        return registry != null ? registry.size() : activeTasks.size();
     }
 
     @Override
-    public void stopTracking(String eventId) {
+    public boolean stopTracking(String eventId) {
+        if (registry != null) {
+            if (registry.remove(eventId)) {
+                pollingService.onTrackingStopped(eventId);
+                return true;
+            }
+            return false;
+        }
         ScheduledFuture<?> future = activeTasks.remove(eventId);
         if (future != null) {
             future.cancel(false); // Cancel the specific task
+            pollingService.onTrackingStopped(eventId);
+            return true;
         }
+        return false;
+    }
+
+    @Override
+    public void setPriority(String eventId, EventPriority priority) {
+        pollingService.setPriority(eventId, priority);
     }
 }
\ No newline at end of file
@@ -1,47 +1,223 @@
 package com.sporty.eventtracker.services.schedulers;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.lang.Nullable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import com.sporty.eventtracker.dto.EventPriority;
 import com.sporty.eventtracker.interfaces.EventScheduler;
 import com.sporty.eventtracker.services.ScorePollingService;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.slf4j.MDC; 
 
 @Service
 @ConditionalOnProperty(name = "app.scheduling.mode", havingValue = "global")
 public class GlobalEventScheduler implements EventScheduler {
 
-    private final Set<String> liveEvents = ConcurrentHashMap.newKeySet();
+    private static final Logger logger = LoggerFactory.getLogger(GlobalEventScheduler.class);
+
+    private final Set<String> liveEvents; // A concurrent hash set, or the compact registry
     private final ScorePollingService pollingService;
+    private final TaskExecutor pollWorkers; // Bounded pool (platform) or virtual threads
+    private final int parallelism;
+    private final long fixedRateNanos;
+
+    // Set while a tick's workers are still draining; a new tick is skipped, not queued
+    private final AtomicBoolean tickInProgress = new AtomicBoolean(false);
 
-    public GlobalEventScheduler(ScorePollingService pollingService) {
+    private final Timer tickDuration;
+    private final Counter missedDeadlines;
+    private final Counter skippedTicks;
+    private final Counter collapsedTicks;
+    private final ScheduleLag scheduleLag; // Only touched by the @Scheduled ticks, which never overlap
+
+    public GlobalEventScheduler(ScorePollingService pollingService,
+                                @Qualifier("globalPollWorkers") TaskExecutor pollWorkers,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.scheduling.global.parallelism:8}") int parallelism,
+                                @Value("${app.scheduling.fixed-rate}") long fixedRateMillis,
+                                @Nullable CompactEventRegistry registry) {
+        this.liveEvents = registry != null ? registry : ConcurrentHashMap.newKeySet();
         this.pollingService = pollingService;
+        this.pollWorkers = pollWorkers;
+        this.parallelism = parallelism;
+        this.fixedRateNanos = TimeUnit.MILLISECONDS.toNanos(fixedRateMillis);
+
+        this.tickDuration = Timer.builder("tracker.global.tick.duration")
+                .description("Time from tick start until every live event was polled")
+                .register(meterRegistry);
+        this.missedDeadlines = Counter.builder("tracker.global.tick.missed.deadline")
+                .description("Events whose poll started after the tick's fixed-rate deadline")
+                .register(meterRegistry);
+        this.skippedTicks = Counter.builder("tracker.global.tick.skipped")
+                .description("Ticks skipped because the previous tick was still running")
+                .register(meterRegistry);
+        this.scheduleLag = new ScheduleLag(ScheduleLag.timer(meterRegistry, "global"), Duration.ofMillis(fixedRateMillis));
+        this.collapsedTicks = ScheduleLag.collapsed(meterRegistry, "global");
+        Gauge.builder("tracker.events.tracked", liveEvents, Set::size)
+                .description("Events currently being polled")
+                .tag("mode", "global")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean startTracking(String eventId) {
+        pollingService.onTrackingStarted(eventId);
+        return liveEvents.add(eventId);
     }
 
     @Override
-    public void startTracking(String eventId) {
-        liveEvents.add(eventId);
+    public boolean stopTracking(String eventId) {
+        if (liveEvents.remove(eventId)) {
+            pollingService.onTrackingStopped(eventId);
+            return true;
+        }
+        return false;
     }
 
     @Override
-    public void stopTracking(String eventId) {
-        liveEvents.remove(eventId);
+    public void setPriority(String eventId, EventPriority priority) {
+        pollingService.setPriority(eventId, priority);
     }
 
-    // This runs single job for all events
+    // This runs single job for all events, fanned out across 'parallelism' workers
     @Scheduled(fixedRateString = "${app.scheduling.fixed-rate}") 
     public void pollAllEvents() {
-        liveEvents.forEach(eventId -> {
+        if (scheduleLag.fired()) {
+            // Missed ticks replayed back to back would each poll every event; the last one suffices
+            collapsedTicks.increment();
+            return;
+        }
+        if (!tickInProgress.compareAndSet(false, true)) {
+            // The running tick still walks every live event, so skipping here merges the two
+            skippedTicks.increment();
+            logger.warn("Previous polling tick still running, skipping this tick");
+            return;
+        }
+
+        List<String> events = new ArrayList<>(liveEvents);
+        if (events.isEmpty()) {
+            tickInProgress.set(false);
+            return;
+        }
+        pollingService.sortByPriority(events); // Claimed HIGH first
+
+        int claimSize = Math.max(1, pollingService.maxBatchSize()); // Events per upstream request
+        int chunks = (events.size() + claimSize - 1) / claimSize;
+        int workers = Math.min(parallelism, chunks);
+        TickRun run = new TickRun(events, claimSize, workers);
+        for (int i = 0; i < workers; i++) {
             try {
-                MDC.put("eventId", eventId);
-                
-                pollingService.pollSingleEvent(eventId); 
+                pollWorkers.execute(run::work);
+            } catch (TaskRejectedException e) {
+                logger.error("Poll worker rejected, tick continues with fewer workers: {}", e.getMessage());
+                run.release();
+            }
+        }
+    }
+
+    private CompletableFuture<Void> pollEvent(String eventId) {
+        try {
+            MDC.put("eventId", eventId);
+
+            return pollingService.pollSingleEvent(eventId);
+        } finally {
+            MDC.remove("eventId");
+        }
+    }
+
+    /**
+     * One tick's worth of work. Workers pull events from a shared cursor so a slow
+     * upstream response only holds up its own worker, not the whole list. With the async
+     * client a worker only dispatches, and the tick ends when the last response is in.
+     * With batching enabled a worker claims a whole batch per upstream request.
+     */
+    private final class TickRun {
+        private final List<String> events;
+        private final int claimSize;
+        private final long startNanos = System.nanoTime();
+        private final AtomicInteger cursor = new AtomicInteger();
+        private final AtomicInteger pending; // Running workers + in-flight async polls
+        private final AtomicInteger missed = new AtomicInteger();
+
+        TickRun(List<String> events, int claimSize, int workers) {
+            this.events = events;
+            this.claimSize = claimSize;
+            this.pending = new AtomicInteger(workers);
+        }
+
+        void work() {
+            try {
+                int from;
+                while ((from = cursor.getAndAdd(claimSize)) < events.size()) {
+                    List<String> claimed = live(events.subList(from, Math.min(from + claimSize, events.size())));
+                    if (claimed.isEmpty()) {
+                        continue; // Stopped mid-tick
+                    }
+                    if (System.nanoTime() - startNanos > fixedRateNanos) {
+                        missed.addAndGet(claimed.size());
+                    }
+                    CompletableFuture<Void> poll = claimSize == 1
+                            ? pollEvent(claimed.get(0))
+                            : pollingService.pollEvents(claimed);
+                    if (!poll.isDone()) {
+                        pending.incrementAndGet();
+                        poll.whenComplete((result, ex) -> release());
+                    }
+                }
             } finally {
-                MDC.remove("eventId");
+                release();
+            }
+        }
+
+        private List<String> live(List<String> claimed) {
+            List<String> stillLive = new ArrayList<>(claimed.size());
+            for (String eventId : claimed) {
+                if (liveEvents.contains(eventId)) {
+                    stillLive.add(eventId);
+                }
+            }
+            return stillLive;
+        }
+
+        void release() {
+            if (pending.decrementAndGet() == 0) {
+                finish();
+            }
+        }
+
+        private void finish() {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            tickDuration.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            missedDeadlines.increment(missed.get());
+            tickInProgress.set(false);
+
+            if (missed.get() > 0) {
+                logger.warn("Polling tick took {} ms for {} events, {} missed their deadline",
+                        TimeUnit.NANOSECONDS.toMillis(elapsedNanos), events.size(), missed.get());
+            } else {
+                logger.debug("Polling tick took {} ms for {} events",
+                        TimeUnit.NANOSECONDS.toMillis(elapsedNanos), events.size());
             }
-        });
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,83 @@
+package com.sporty.eventtracker.services.schedulers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hashed timing wheel for periodic polling where one wheel revolution equals the polling interval.
+ *
+ * Every event owns a fixed slot (its phase inside the interval), so it never has to be
+ * re-inserted after firing. Add and remove are O(1) set operations on the owning slot;
+ * a stopped event is gone immediately instead of lingering as a cancelled task in a delay queue.
+ */
+class HashedTimingWheel {
+
+    private final Set<String>[] slots;
+    private final Map<String, Integer> slotOf = new ConcurrentHashMap<>();
+    private final AtomicInteger nextSlot = new AtomicInteger();
+    private int cursor; // Only touched by the ticking thread
+
+    @SuppressWarnings("unchecked")
+    HashedTimingWheel(int ticksPerWheel) {
+        if (ticksPerWheel <= 0) {
+            throw new IllegalArgumentException("ticksPerWheel must be positive: " + ticksPerWheel);
+        }
+        this.slots = new Set[ticksPerWheel];
+        for (int i = 0; i < ticksPerWheel; i++) {
+            slots[i] = ConcurrentHashMap.newKeySet();
+        }
+    }
+
+    /**
+     * Places the event in the next slot round-robin, spreading phases evenly across the interval.
+     * Returns false if the event is already on the wheel.
+     */
+    boolean add(String eventId) {
+        boolean[] added = {false};
+        slotOf.computeIfAbsent(eventId, id -> {
+            int slot = Math.floorMod(nextSlot.getAndIncrement(), slots.length);
+            slots[slot].add(id);
+            added[0] = true;
+            return slot;
+        });
+        return added[0];
+    }
+
+    boolean remove(String eventId) {
+        Integer slot = slotOf.remove(eventId);
+        if (slot == null) {
+            return false;
+        }
+        slots[slot].remove(eventId);
+        return true;
+    }
+
+    /**
+     * Moves the wheel forward by one tick and returns a snapshot of the events due on it.
+     */
+    List<String> advance() {
+        Set<String> due = slots[cursor];
+        cursor = (cursor + 1) % slots.length;
+        return new ArrayList<>(due);
+    }
+
+    boolean contains(String eventId) {
+        return slotOf.containsKey(eventId);
+    }
+
+    int size() {
+        return slotOf.size();
+    }
+
+    int ticksPerWheel() {
+        return slots.length;
+    }
+
+    int slotSize(int slot) {
+        return slots[slot].size();
+    }
+}
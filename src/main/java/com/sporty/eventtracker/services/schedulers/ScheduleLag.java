@@ -0,0 +1,72 @@
+package com.sporty.eventtracker.services.schedulers;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how late a fixed-rate task fires compared to its intended schedule
+ * (first fire time + n * period). Fixed-rate executors never skip runs, so the n-th run
+ * is always measured against the n-th intended time.
+ *
+ * The same bookkeeping detects catch-up bursts: after a stall the executor runs every
+ * missed execution back to back, and all but the last of them can be collapsed.
+ *
+ * Not thread-safe: call {@link #fired()} only from the task's own runs, which never overlap.
+ */
+final class ScheduleLag {
+
+    private final Timer lag;
+    private final long periodNanos;
+    private long intendedNanos;
+    private boolean started;
+
+    ScheduleLag(Timer lag, Duration period) {
+        this.lag = lag;
+        this.periodNanos = period.toNanos();
+    }
+
+    ScheduleLag(Timer lag, Duration period, long firstFireNanos) {
+        this(lag, period);
+        this.intendedNanos = firstFireNanos;
+        this.started = true;
+    }
+
+    static Timer timer(MeterRegistry meterRegistry, String mode) {
+        return Timer.builder("tracker.schedule.lag")
+                .description("Actual minus intended fire time of a polling tick")
+                .tag("mode", mode)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    static Counter collapsed(MeterRegistry meterRegistry, String mode) {
+        return Counter.builder("tracker.schedule.catchup.collapsed")
+                .description("Missed fixed-rate runs collapsed into a single catch-up run")
+                .tag("mode", mode)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns true when this run is at least a full period late: the next run is then
+     * already due and follows immediately, so this one is redundant.
+     */
+    boolean fired() {
+        return fired(System.nanoTime());
+    }
+
+    boolean fired(long now) {
+        if (!started) {
+            // First run of a task whose start time we do not control: it defines the schedule
+            intendedNanos = now;
+            started = true;
+        }
+        long lateNanos = now - intendedNanos;
+        lag.record(Math.max(0, lateNanos), TimeUnit.NANOSECONDS);
+        intendedNanos += periodNanos;
+        return periodNanos > 0 && lateNanos >= periodNanos; // A zero period has no next run to defer to
+    }
+}
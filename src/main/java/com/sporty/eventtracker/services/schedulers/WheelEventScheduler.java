@@ -0,0 +1,142 @@
+package com.sporty.eventtracker.services.schedulers;
+
+import com.sporty.eventtracker.dto.EventPriority;
+import com.sporty.eventtracker.interfaces.EventScheduler;
+import com.sporty.eventtracker.interfaces.PollTask;
+import com.sporty.eventtracker.services.AdaptivePollingPolicy;
+import com.sporty.eventtracker.services.ScorePollingService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Polls every event once per interval using a single ticker and a {@link HashedTimingWheel}
+ * instead of one ScheduledFuture per event.
+ */
+@Service
+@ConditionalOnProperty(name = "app.scheduling.mode", havingValue = "wheel")
+public class WheelEventScheduler implements EventScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(WheelEventScheduler.class);
+    private static final Duration POLLING_INTERVAL = Duration.ofSeconds(10);
+
+    private final ThreadPoolTaskScheduler taskScheduler; // Fires ticks and runs the slot hand-off
+    private final TaskExecutor pollExecutor; // Inline (platform) or one virtual thread per poll
+    private final ScorePollingService pollingService;
+    private final HashedTimingWheel wheel;
+    private final Duration pollingInterval; // One revolution; min-interval when adaptive polling is on
+    private final ScheduleLag scheduleLag; // Only touched by the ticker's runs, which never overlap
+
+    private ScheduledFuture<?> ticker;
+
+    public WheelEventScheduler(ThreadPoolTaskScheduler taskScheduler,
+                               @Qualifier("pollExecutor") TaskExecutor pollExecutor,
+                               ScorePollingService pollingService,
+                               AdaptivePollingPolicy adaptivePolicy,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.scheduling.wheel.ticks-per-interval:100}") int ticksPerInterval) {
+        this.taskScheduler = taskScheduler;
+        this.pollExecutor = pollExecutor;
+        this.pollingService = pollingService;
+        this.wheel = new HashedTimingWheel(ticksPerInterval);
+        this.pollingInterval = adaptivePolicy.tickInterval(POLLING_INTERVAL);
+        this.scheduleLag = new ScheduleLag(ScheduleLag.timer(meterRegistry, "wheel"),
+                pollingInterval.dividedBy(wheel.ticksPerWheel()));
+        Gauge.builder("tracker.events.tracked", wheel, HashedTimingWheel::size)
+                .description("Events currently being polled")
+                .tag("mode", "wheel")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        Duration tickDuration = pollingInterval.dividedBy(wheel.ticksPerWheel());
+        ticker = taskScheduler.scheduleAtFixedRate(this::tick, tickDuration);
+        logger.info("Timing wheel started: {} slots, tick every {} ms", wheel.ticksPerWheel(), tickDuration.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (ticker != null) {
+            ticker.cancel(false);
+        }
+    }
+
+    @Override
+    public boolean startTracking(String eventId) {
+        pollingService.onTrackingStarted(eventId);
+        if (wheel.add(eventId)) {
+            logger.info("Starting wheel tracking for event: {}", eventId);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean stopTracking(String eventId) {
+        if (wheel.remove(eventId)) {
+            pollingService.onTrackingStopped(eventId);
+            logger.info("Stopped wheel tracking for event: {}", eventId);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void setPriority(String eventId, EventPriority priority) {
+        pollingService.setPriority(eventId, priority);
+    }
+
+    /**
+     * Runs on the ticker thread: only collects the due slot and hands it off,
+     * so a slow upstream never delays the next tick.
+     */
+    public void tick() {
+        // Late ticks are not collapsed: each one advances a different slot, so a catch-up burst
+        // polls distinct events. Repeats of an event still in flight are dropped by the polling service.
+        scheduleLag.fired();
+        List<String> due = wheel.advance();
+        if (due.isEmpty()) {
+            return;
+        }
+        pollingService.sortByPriority(due); // Dispatched HIGH first
+
+        if (pollingService.maxBatchSize() > 1) {
+            // The whole slot is due together: let the polling service group it into batch requests
+            taskScheduler.execute(() -> pollExecutor.execute(PollTask.of(() -> pollingService.pollEvents(
+                    due.stream().filter(wheel::contains).toList()))));
+            return;
+        }
+
+        taskScheduler.execute(() -> due.forEach(eventId -> {
+            // Stopped after the slot was collected
+            if (!wheel.contains(eventId)) {
+                return;
+            }
+            try {
+                MDC.put("eventId", eventId);
+                pollExecutor.execute(PollTask.of(() -> pollingService.pollSingleEvent(eventId)));
+            } finally {
+                MDC.remove("eventId");
+            }
+        }));
+    }
+
+    public int trackedEvents() {
+        return wheel.size();
+    }
+}
@@ -0,0 +1,42 @@
+package com.sporty.eventtracker.services.serialization;
+
+import com.sporty.eventtracker.dto.ScoreUpdate;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads values written by {@link ScoreUpdateBinarySerializer}; for consumers and tests.
+ */
+public class ScoreUpdateBinaryDeserializer implements Deserializer<ScoreUpdate> {
+
+    @Override
+    public ScoreUpdate deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length < ScoreUpdateBinarySerializer.FIXED_SIZE || data[0] != ScoreUpdateBinarySerializer.FORMAT_VERSION) {
+            throw new SerializationException("Not a version " + ScoreUpdateBinarySerializer.FORMAT_VERSION + " score update");
+        }
+
+        int idLength = getShort(data, 1);
+        if (data.length != ScoreUpdateBinarySerializer.FIXED_SIZE + idLength) {
+            throw new SerializationException("Truncated score update: " + data.length + " bytes");
+        }
+        int pos = 3;
+        String eventId = new String(data, pos, idLength, StandardCharsets.UTF_8);
+        pos += idLength;
+        int home = getShort(data, pos);
+        int away = getShort(data, pos + 2);
+        long polledAt = 0;
+        for (int i = pos + 4; i < pos + 12; i++) {
+            polledAt = (polledAt << 8) | (data[i] & 0xFF);
+        }
+        return new ScoreUpdate(eventId, home, away, polledAt);
+    }
+
+    private static int getShort(byte[] data, int pos) {
+        return ((data[pos] & 0xFF) << 8) | (data[pos + 1] & 0xFF);
+    }
+}
@@ -0,0 +1,76 @@
+package com.sporty.eventtracker.services.serialization;
+
+import com.sporty.eventtracker.dto.ScoreUpdate;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compact binary Kafka value for {@link ScoreUpdate}, big-endian:
+ *
+ * <pre>
+ * version:u8 | idLength:u16 | eventId:utf8[idLength] | home:u16 | away:u16 | polledAt:i64
+ * </pre>
+ *
+ * 15 bytes plus the id. ASCII ids (the common case) are written straight from the String,
+ * so one exactly-sized array is the only allocation per message.
+ */
+public class ScoreUpdateBinarySerializer implements Serializer<ScoreUpdate> {
+
+    public static final byte FORMAT_VERSION = 1;
+    static final int FIXED_SIZE = 1 + 2 + 2 + 2 + 8;
+    static final int MAX_UNSIGNED_SHORT = 0xFFFF;
+
+    @Override
+    public byte[] serialize(String topic, ScoreUpdate update) {
+        if (update == null) {
+            return null;
+        }
+
+        String eventId = update.eventId();
+        byte[] encodedId = isAscii(eventId) ? null : eventId.getBytes(StandardCharsets.UTF_8);
+        int idLength = encodedId == null ? eventId.length() : encodedId.length;
+        if (idLength > MAX_UNSIGNED_SHORT || update.homeScore() > MAX_UNSIGNED_SHORT || update.awayScore() > MAX_UNSIGNED_SHORT) {
+            throw new SerializationException("Score update does not fit the binary format: " + update);
+        }
+
+        byte[] out = new byte[FIXED_SIZE + idLength];
+        int pos = 0;
+        out[pos++] = FORMAT_VERSION;
+        pos = putShort(out, pos, idLength);
+        if (encodedId == null) {
+            for (int i = 0; i < idLength; i++) {
+                out[pos++] = (byte) eventId.charAt(i);
+            }
+        } else {
+            System.arraycopy(encodedId, 0, out, pos, idLength);
+            pos += idLength;
+        }
+        pos = putShort(out, pos, update.homeScore());
+        pos = putShort(out, pos, update.awayScore());
+        putLong(out, pos, update.polledAt());
+        return out;
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int putShort(byte[] out, int pos, int value) {
+        out[pos] = (byte) (value >>> 8);
+        out[pos + 1] = (byte) value;
+        return pos + 2;
+    }
+
+    private static void putLong(byte[] out, int pos, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out[pos++] = (byte) (value >>> shift);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.sporty.eventtracker.services.serialization;
+
+import com.sporty.eventtracker.dto.ScoreUpdate;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Hand-written JSON for {@link ScoreUpdate}, no reflection and no intermediate Strings:
+ *
+ * <pre>
+ * {"eventId":"...","currentScore":"h:a","homeScore":h,"awayScore":a,"polledAt":t}
+ * </pre>
+ *
+ * Keeps the legacy "eventId"/"currentScore" fields so existing consumers keep working.
+ * Output is pure ASCII; anything outside printable ASCII in the id is \\u-escaped.
+ */
+public class ScoreUpdateJsonSerializer implements Serializer<ScoreUpdate> {
+
+    private static final byte[] EVENT_ID = ascii("{\"eventId\":\"");
+    private static final byte[] CURRENT_SCORE = ascii("\",\"currentScore\":\"");
+    private static final byte[] HOME_SCORE = ascii("\",\"homeScore\":");
+    private static final byte[] AWAY_SCORE = ascii(",\"awayScore\":");
+    private static final byte[] POLLED_AT = ascii(",\"polledAt\":");
+    private static final byte[] HEX = ascii("0123456789abcdef");
+
+    // Fixed parts + 4 ints (max 10 digits each, the score twice) + ':' + a long (max 20 chars) + '}'
+    private static final int FIXED_SIZE = EVENT_ID.length + CURRENT_SCORE.length + HOME_SCORE.length
+            + AWAY_SCORE.length + POLLED_AT.length + 4 * 10 + 1 + 20 + 1;
+
+    @Override
+    public byte[] serialize(String topic, ScoreUpdate update) {
+        if (update == null) {
+            return null;
+        }
+
+        String eventId = update.eventId();
+        byte[] out = new byte[FIXED_SIZE + 6 * eventId.length()]; // Worst case: every id char escaped
+        int pos = put(out, 0, EVENT_ID);
+        pos = putEscaped(out, pos, eventId);
+        pos = put(out, pos, CURRENT_SCORE);
+        pos = putNumber(out, pos, update.homeScore());
+        out[pos++] = ':';
+        pos = putNumber(out, pos, update.awayScore());
+        pos = put(out, pos, HOME_SCORE);
+        pos = putNumber(out, pos, update.homeScore());
+        pos = put(out, pos, AWAY_SCORE);
+        pos = putNumber(out, pos, update.awayScore());
+        pos = put(out, pos, POLLED_AT);
+        pos = putNumber(out, pos, update.polledAt());
+        out[pos++] = '}';
+        return Arrays.copyOf(out, pos);
+    }
+
+    private static int put(byte[] out, int pos, byte[] chunk) {
+        System.arraycopy(chunk, 0, out, pos, chunk.length);
+        return pos + chunk.length;
+    }
+
+    private static int putEscaped(byte[] out, int pos, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out[pos++] = '\\';
+                out[pos++] = (byte) c;
+            } else if (c >= 0x20 && c < 0x7F) {
+                out[pos++] = (byte) c;
+            } else {
+                out[pos++] = '\\';
+                out[pos++] = 'u';
+                out[pos++] = HEX[(c >>> 12) & 0xF];
+                out[pos++] = HEX[(c >>> 8) & 0xF];
+                out[pos++] = HEX[(c >>> 4) & 0xF];
+                out[pos++] = HEX[c & 0xF];
+            }
+        }
+        return pos;
+    }
+
+    private static int putNumber(byte[] out, int pos, long value) {
+        if (value < 0) {
+            if (value == Long.MIN_VALUE) {
+                return put(out, pos, ascii(Long.toString(value)));
+            }
+            out[pos++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        for (int i = pos + digits - 1; i >= pos; i--) {
+            out[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + digits;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,157 @@
+package com.sporty.eventtracker.services.simulator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Behaves like a real score provider behind {@code MockScoreApiController}:
+ * <ul>
+ *   <li>Scores are stateful: each match starts 0:0 and goals arrive as a Poisson process
+ *       (goals-per-minute), so a score only changes now and then, as in a real match.</li>
+ *   <li>Responses are delayed by a latency distribution: none, fixed, normal or long-tail (Pareto).</li>
+ *   <li>A share of requests fail with 503 (error-rate) or answer only after timeout-ms (timeout-rate).</li>
+ * </ul>
+ * Delays never hold a request thread: responses complete from a delayed executor.
+ */
+@Component
+public class UpstreamSimulator {
+
+    public enum Distribution { NONE, FIXED, NORMAL, LONG_TAIL }
+
+    /**
+     * A match's current score and the wall-clock time it last changed.
+     */
+    public record SimulatedScore(int home, int away, long changedAt) {
+        public String currentScore() {
+            return home + ":" + away;
+        }
+    }
+
+    private static final double HOME_ADVANTAGE = 0.55; // Share of goals scored by the home side
+
+    private final Distribution distribution;
+    private final double meanMillis;
+    private final double stddevMillis;
+    private final double tailAlpha;
+    private final double errorRate;
+    private final double timeoutRate;
+    private final long timeoutMillis;
+    private final double goalsPerMilli;
+
+    private final Map<String, Match> matches = new ConcurrentHashMap<>();
+
+    public UpstreamSimulator(@Value("${app.mock-api.latency.distribution:none}") String distribution,
+                             @Value("${app.mock-api.latency.mean-ms:50}") double meanMillis,
+                             @Value("${app.mock-api.latency.stddev-ms:20}") double stddevMillis,
+                             @Value("${app.mock-api.latency.tail-alpha:1.5}") double tailAlpha,
+                             @Value("${app.mock-api.error-rate:0.0}") double errorRate,
+                             @Value("${app.mock-api.timeout-rate:0.0}") double timeoutRate,
+                             @Value("${app.mock-api.timeout-ms:30000}") long timeoutMillis,
+                             @Value("${app.mock-api.goals-per-minute:0.03}") double goalsPerMinute) {
+        this.distribution = Distribution.valueOf(distribution.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        this.meanMillis = meanMillis;
+        this.stddevMillis = stddevMillis;
+        this.tailAlpha = Math.max(1.01, tailAlpha); // The mean is infinite for alpha <= 1
+        this.errorRate = errorRate;
+        this.timeoutRate = timeoutRate;
+        this.timeoutMillis = timeoutMillis;
+        this.goalsPerMilli = goalsPerMinute / 60_000.0;
+    }
+
+    /**
+     * The match's score as of now, advancing it by any goals since the last read.
+     */
+    public SimulatedScore score(String eventId) {
+        long now = System.currentTimeMillis();
+        return matches.compute(eventId, (id, match) -> match == null ? new Match(now) : match.advance(now)).score;
+    }
+
+    /**
+     * The last score handed out for this match, without advancing it; null if never requested.
+     */
+    public SimulatedScore peek(String eventId) {
+        Match match = matches.get(eventId);
+        return match == null ? null : match.score;
+    }
+
+    /**
+     * Completes with the body after a simulated delay, or fails like an unhealthy upstream.
+     * The body is built when the response is sent, so it reflects the score at that moment.
+     */
+    public <T> CompletableFuture<T> respond(Supplier<T> body) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double roll = random.nextDouble();
+        if (roll < timeoutRate) {
+            return delayed(timeoutMillis, body);
+        }
+        long latencyMillis = sampleLatency(random);
+        if (roll < timeoutRate + errorRate) {
+            return delayed(latencyMillis, () -> {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Simulated upstream error");
+            });
+        }
+        return delayed(latencyMillis, body);
+    }
+
+    private static <T> CompletableFuture<T> delayed(long delayMillis, Supplier<T> body) {
+        if (delayMillis <= 0) {
+            try {
+                return CompletableFuture.completedFuture(body.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        return CompletableFuture.supplyAsync(body, CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS));
+    }
+
+    long sampleLatency(ThreadLocalRandom random) {
+        return switch (distribution) {
+            case NONE -> 0;
+            case FIXED -> Math.round(meanMillis);
+            case NORMAL -> Math.max(0, Math.round(meanMillis + random.nextGaussian() * stddevMillis));
+            // Pareto with the configured mean: most responses are fast, a few are very slow
+            case LONG_TAIL -> {
+                double scale = meanMillis * (tailAlpha - 1) / tailAlpha;
+                yield Math.round(scale / Math.pow(1 - random.nextDouble(), 1 / tailAlpha));
+            }
+        };
+    }
+
+    private final class Match {
+        private SimulatedScore score;
+        private long nextGoalAt;
+
+        Match(long now) {
+            this.score = new SimulatedScore(0, 0, now);
+            this.nextGoalAt = now + nextGoalDelay();
+        }
+
+        // Only called inside ConcurrentHashMap.compute, so never concurrently for one match
+        Match advance(long now) {
+            while (nextGoalAt <= now) {
+                boolean home = ThreadLocalRandom.current().nextDouble() < HOME_ADVANTAGE;
+                score = new SimulatedScore(score.home() + (home ? 1 : 0), score.away() + (home ? 0 : 1), nextGoalAt);
+                nextGoalAt += nextGoalDelay();
+            }
+            return this;
+        }
+
+        private long nextGoalDelay() {
+            if (goalsPerMilli <= 0) {
+                return Long.MAX_VALUE / 2; // Goalless: far enough that now never reaches it
+            }
+            // Exponential inter-arrival times make goals a Poisson process
+            return Math.max(1, Math.round(-Math.log(1 - ThreadLocalRandom.current().nextDouble()) / goalsPerMilli));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.sporty.eventtracker.config;
+
+import com.sporty.eventtracker.interfaces.PollTask;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PollTaskDecoratorTest {
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    void decorate_ShouldPropagateMdcToWorkerThread() throws Exception {
+        // Arrange
+        PollTaskDecorator decorator = new PollTaskDecorator(1);
+        AtomicReference<String> seenEventId = new AtomicReference<>();
+        MDC.put("eventId", "match-123");
+
+        // Act
+        Runnable task = decorator.decorate(() -> seenEventId.set(MDC.get("eventId")));
+        MDC.clear();
+        Thread worker = new Thread(task);
+        worker.start();
+        worker.join();
+
+        // Assert
+        assertEquals("match-123", seenEventId.get());
+    }
+
+    @Test
+    void decorate_ShouldSkipPoll_WhenCapIsReached_InsteadOfWaiting() throws Exception {
+        // Arrange
+        PollTaskDecorator decorator = new PollTaskDecorator(1);
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        AtomicInteger secondRuns = new AtomicInteger();
+
+        Thread first = new Thread(decorator.decorate(() -> {
+            firstStarted.countDown();
+            awaitQuietly(releaseFirst);
+        }));
+
+        // Act
+        first.start();
+        assertTrue(firstStarted.await(1, TimeUnit.SECONDS));
+        Runnable second = decorator.decorate(secondRuns::incrementAndGet);
+        second.run();
+
+        // Assert: the second poll never ran and was counted
+        assertEquals(0, secondRuns.get());
+        assertEquals(1, decorator.skippedPolls());
+
+        releaseFirst.countDown();
+        first.join();
+        assertEquals(1, decorator.availablePermits());
+        decorator.decorate(secondRuns::incrementAndGet).run(); // Permit is back
+        assertEquals(1, secondRuns.get());
+    }
+
+    @Test
+    void decorate_ShouldKeepPermit_UntilPollTaskFutureSettles() {
+        // Arrange
+        PollTaskDecorator decorator = new PollTaskDecorator(1);
+        CompletableFuture<Void> pending = new CompletableFuture<>(); // e.g. waiting for a rate-limit permit
+
+        // Act
+        decorator.decorate(PollTask.of(() -> pending)).run();
+        int whilePending = decorator.availablePermits();
+        pending.complete(null);
+
+        // Assert
+        assertEquals(0, whilePending);
+        assertEquals(1, decorator.availablePermits());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
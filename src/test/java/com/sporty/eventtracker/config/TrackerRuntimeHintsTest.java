@@ -0,0 +1,27 @@
+package com.sporty.eventtracker.config;
+
+import com.sporty.eventtracker.dto.EventStatusUpdate;
+import com.sporty.eventtracker.services.serialization.ScoreUpdateBinaryDeserializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrackerRuntimeHintsTest {
+
+    @Test
+    void registerHints_ShouldCoverKafkaPayloadsAndConfiguredSerializers() throws Exception {
+        // Arrange
+        RuntimeHints hints = new RuntimeHints();
+
+        // Act
+        new TrackerRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // Assert
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(EventStatusUpdate.class.getMethod("eventId")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onConstructor(ScoreUpdateBinaryDeserializer.class.getConstructor()).test(hints));
+    }
+}
@@ -3,24 +3,31 @@ package com.sporty.eventtracker.controllers;
 import com.sporty.eventtracker.dto.EventStatus;
 import com.sporty.eventtracker.dto.EventStatusUpdate;
 import com.sporty.eventtracker.interfaces.EventScheduler;
+import com.sporty.eventtracker.services.StatusUpdates;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.MDC;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,18 +36,19 @@ class EventControllerTest {
     @Mock
     private EventScheduler eventScheduler;
 
-    @InjectMocks
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     private EventController eventController;
 
     private MockMvc mockMvc;
-    private ObjectMapper objectMapper;
 
     @BeforeEach
     void setUp() {
+        eventController = new EventController(new StatusUpdates(eventScheduler, null, null), objectMapper, 4); // At most 4 per bulk request
         mockMvc = MockMvcBuilders.standaloneSetup(eventController)
                 .setMessageConverters(new org.springframework.http.converter.json.MappingJackson2HttpMessageConverter())
                 .build();
-        objectMapper = new ObjectMapper();
         MDC.clear(); // Clear MDC before each test
     }
 
@@ -56,8 +64,8 @@ class EventControllerTest {
                         .content(objectMapper.writeValueAsString(update)))
                 .andExpect(status().isOk());
 
-        verify(eventScheduler, times(1)).startTracking(eq(eventId));
-        verify(eventScheduler, never()).stopTracking(eq(eventId));
+        verify(eventScheduler, times(1)).startTrackingAll(List.of(eventId));
+        verify(eventScheduler, never()).stopTrackingAll(anyCollection());
     }
 
     @Test
@@ -72,8 +80,8 @@ class EventControllerTest {
                         .content(objectMapper.writeValueAsString(update)))
                 .andExpect(status().isOk());
 
-        verify(eventScheduler, times(1)).stopTracking(eq(eventId));
-        verify(eventScheduler, never()).startTracking(eq(eventId));
+        verify(eventScheduler, times(1)).stopTrackingAll(List.of(eventId));
+        verify(eventScheduler, never()).startTrackingAll(anyCollection());
     }
 
     @Test
@@ -117,8 +125,7 @@ class EventControllerTest {
                 .andExpect(status().isBadRequest());
         
         // Verify scheduler was not called
-        verify(eventScheduler, never()).startTracking(any());
-        verify(eventScheduler, never()).stopTracking(any());
+        verifyNoInteractions(eventScheduler);
     }
 
     @Test
@@ -133,8 +140,7 @@ class EventControllerTest {
                 .andExpect(status().isBadRequest());
         
         // Verify scheduler was not called
-        verify(eventScheduler, never()).startTracking(any());
-        verify(eventScheduler, never()).stopTracking(any());
+        verifyNoInteractions(eventScheduler);
     }
 
     @Test
@@ -150,8 +156,7 @@ class EventControllerTest {
                 .andExpect(status().isBadRequest());
 
         // Verify scheduler was not called
-        verify(eventScheduler, never()).startTracking(any());
-        verify(eventScheduler, never()).stopTracking(any());
+        verifyNoInteractions(eventScheduler);
     }
 
     @Test
@@ -173,8 +178,133 @@ class EventControllerTest {
                         .content(objectMapper.writeValueAsString(update2)))
                 .andExpect(status().isOk());
 
-        verify(eventScheduler, times(1)).startTracking(eq(eventId1));
-        verify(eventScheduler, times(1)).stopTracking(eq(eventId2));
+        verify(eventScheduler, times(1)).startTrackingAll(List.of(eventId1));
+        verify(eventScheduler, times(1)).stopTrackingAll(List.of(eventId2));
     }
-}
 
+    @Test
+    void testUpdateStatuses_WithBulkArray_ShouldApplyBucketsOnce_AndReportActualChanges() throws Exception {
+        // Given
+        List<EventStatusUpdate> updates = List.of(
+                new EventStatusUpdate("event-001", EventStatus.LIVE),
+                new EventStatusUpdate("event-002", EventStatus.LIVE),
+                new EventStatusUpdate("event-003", EventStatus.NOT_LIVE),
+                new EventStatusUpdate("", EventStatus.LIVE));
+        when(eventScheduler.startTrackingAll(List.of("event-001", "event-002"))).thenReturn(1); // event-002 already tracked
+        when(eventScheduler.stopTrackingAll(List.of("event-003"))).thenReturn(1);
+
+        // When & Then
+        mockMvc.perform(post("/events/status/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updates)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(4))
+                .andExpect(jsonPath("$.started").value(1))
+                .andExpect(jsonPath("$.stopped").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.rejections[0].index").value(3));
+
+        verify(eventScheduler, times(1)).startTrackingAll(eq(List.of("event-001", "event-002")));
+        verify(eventScheduler, times(1)).stopTrackingAll(eq(List.of("event-003")));
+        verify(eventScheduler, never()).startTracking(any());
+    }
+
+    @Test
+    void testUpdateStatuses_WithRepeatedEvent_ShouldApplyLastStatus() throws Exception {
+        // Given
+        List<EventStatusUpdate> updates = List.of(
+                new EventStatusUpdate("event-001", EventStatus.LIVE),
+                new EventStatusUpdate("event-001", EventStatus.NOT_LIVE));
+
+        // When & Then: event-001 was not tracked, so nothing actually stopped
+        mockMvc.perform(post("/events/status/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updates)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stopped").value(0));
+
+        verify(eventScheduler, times(1)).stopTrackingAll(eq(List.of("event-001")));
+        verify(eventScheduler, never()).startTrackingAll(anyCollection());
+    }
+
+    @Test
+    void testUpdateStatuses_WithMoreThanMaxBulkSize_ShouldReturnPayloadTooLarge_AndApplyNothing() throws Exception {
+        // Given
+        List<EventStatusUpdate> updates = List.of(
+                new EventStatusUpdate("event-001", EventStatus.LIVE),
+                new EventStatusUpdate("event-002", EventStatus.LIVE),
+                new EventStatusUpdate("event-003", EventStatus.LIVE),
+                new EventStatusUpdate("event-004", EventStatus.LIVE),
+                new EventStatusUpdate("event-005", EventStatus.LIVE));
+
+        // When & Then
+        mockMvc.perform(post("/events/status/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updates)))
+                .andExpect(status().isPayloadTooLarge());
+
+        verifyNoInteractions(eventScheduler);
+    }
+
+    @Test
+    void testUpdateStatuses_WithUnbindableItem_ShouldRejectOnlyThatItem() throws Exception {
+        // Given
+        String body = """
+                [{"eventId":"event-001","status":"LIVE"},
+                 {"eventId":"event-002","status":"PAUSED"},
+                 {"eventId":{},"status":"LIVE"}]
+                """;
+        when(eventScheduler.startTrackingAll(List.of("event-001"))).thenReturn(1);
+
+        // When & Then
+        mockMvc.perform(post("/events/status/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(3))
+                .andExpect(jsonPath("$.started").value(1))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.rejections[0].index").value(1))
+                .andExpect(jsonPath("$.rejections[0].eventId").value("event-002"))
+                .andExpect(jsonPath("$.rejections[0].reason").value("Invalid update"))
+                .andExpect(jsonPath("$.rejections[1].index").value(2));
+    }
+
+    @Test
+    void testUpdateStatuses_WithoutJsonArray_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/events/status/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"eventId\":\"event-001\",\"status\":\"LIVE\"}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(eventScheduler);
+    }
+
+    @Test
+    void testStreamStatuses_WithNdjson_ShouldRejectOnlyMalformedLines() throws Exception {
+        // Given
+        String ndjson = """
+                {"eventId":"event-001","status":"LIVE"}
+                { not json }
+
+                {"eventId":"event-002","status":"NOT_LIVE"}
+                """;
+        when(eventScheduler.startTrackingAll(List.of("event-001"))).thenReturn(1);
+        when(eventScheduler.stopTrackingAll(List.of("event-002"))).thenReturn(1);
+
+        // When & Then
+        mockMvc.perform(post("/events/status/stream")
+                        .contentType("application/x-ndjson")
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(3))
+                .andExpect(jsonPath("$.started").value(1))
+                .andExpect(jsonPath("$.stopped").value(1))
+                .andExpect(jsonPath("$.rejections[0].index").value(1))
+                .andExpect(jsonPath("$.rejections[0].reason").value("Malformed JSON"));
+
+        verify(eventScheduler, times(1)).startTrackingAll(eq(List.of("event-001")));
+        verify(eventScheduler, times(1)).stopTrackingAll(eq(List.of("event-002")));
+    }
+}
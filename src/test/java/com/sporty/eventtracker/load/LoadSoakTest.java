@@ -0,0 +1,214 @@
+package com.sporty.eventtracker.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sporty.eventtracker.dto.EventStatus;
+import com.sporty.eventtracker.dto.EventStatusUpdate;
+import com.sporty.eventtracker.services.simulator.UpstreamSimulator;
+import com.sporty.eventtracker.services.simulator.UpstreamSimulator.SimulatedScore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.TestSocketUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end load / soak run: the full application against an embedded broker and the
+ * simulated upstream, with N events registered through the bulk status endpoint.
+ * Reports sustained upstream polls/sec, schedule lag percentiles and the latency from
+ * a simulated score change to its record on the Kafka topic.
+ *
+ * Excluded from the regular test task; run it with
+ * {@code ./gradlew loadTest -Dload.events=10000 -Dload.duration-seconds=300}.
+ * Any app.* property can be overridden the same way, e.g. {@code -Dapp.scheduling.mode=wheel}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+@EmbeddedKafka(partitions = 3, topics = LoadSoakTest.TOPIC)
+class LoadSoakTest {
+
+    static final String TOPIC = "live-scores-topic";
+    private static final int PORT = TestSocketUtils.findAvailableTcpPort();
+    private static final int EVENTS = Integer.getInteger("load.events", 5_000);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmup-seconds", 15));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.duration-seconds", 60));
+    private static final int REGISTER_CHUNK = 1_000;
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("server.port", () -> PORT);
+        registry.add("spring.kafka.bootstrap-servers", () -> System.getProperty(EmbeddedKafkaBroker.SPRING_EMBEDDED_KAFKA_BROKERS));
+        registry.add("app.external-api.url", () -> "http://localhost:" + PORT + "/mock-api/score/");
+        registry.add("app.external-api.batch.url", () -> "http://localhost:" + PORT + "/mock-api/scores");
+        defaultTo(registry, "app.external-api.client", "async");
+        defaultTo(registry, "app.mock-api.latency.distribution", "long-tail");
+        defaultTo(registry, "app.mock-api.latency.mean-ms", "40");
+        defaultTo(registry, "app.mock-api.error-rate", "0.01");
+        defaultTo(registry, "app.mock-api.goals-per-minute", "2"); // Frequent changes, so the run sees many
+        defaultTo(registry, "logging.level.com.sporty.eventtracker", "WARN");
+        registry.add("management.metrics.distribution.percentiles.tracker.schedule.lag", () -> "0.5,0.95,0.99");
+    }
+
+    // System properties win over the harness defaults
+    private static void defaultTo(DynamicPropertyRegistry registry, String key, String value) {
+        registry.add(key, () -> System.getProperty(key, value));
+    }
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UpstreamSimulator simulator;
+
+    @Autowired
+    private EmbeddedKafkaBroker broker;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void sustainedLoad() throws Exception {
+        // Arrange
+        List<String> events = IntStream.range(0, EVENTS).mapToObj(i -> "load-" + i).toList();
+        ScoreChangeLatency endToEnd = new ScoreChangeLatency();
+        Thread consumer = new Thread(endToEnd, "load-consumer");
+        consumer.start();
+
+        // Act
+        register(events, EventStatus.LIVE);
+        Thread.sleep(WARMUP.toMillis()); // First polls are spread over one interval
+        long pollsBefore = upstreamPolls();
+        long startNanos = System.nanoTime();
+        Thread.sleep(DURATION.toMillis());
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        double pollsPerSecond = (upstreamPolls() - pollsBefore) / seconds;
+        register(events, EventStatus.NOT_LIVE);
+        endToEnd.stop();
+        consumer.join(10_000);
+
+        // Assert
+        Timer scheduleLag = meterRegistry.get("tracker.schedule.lag").timer();
+        System.out.printf("""
+
+                ===== Load / soak report =====
+                events            %d
+                run               %.0f s after %d s warm-up
+                upstream polls/s  %.1f (expected ~%.1f)
+                schedule lag      %s
+                change -> Kafka   %s (%d changes, %d superseded)
+                ==============================
+                %n""",
+                EVENTS, seconds, WARMUP.toSeconds(), pollsPerSecond, EVENTS / 10.0,
+                percentiles(scheduleLag.takeSnapshot()),
+                percentiles(endToEnd.latency.takeSnapshot()), endToEnd.latency.count(), endToEnd.superseded.get());
+        assertTrue(pollsPerSecond > 0, "No upstream polls during the run");
+        assertTrue(endToEnd.latency.count() > 0, "No score change reached Kafka during the run");
+    }
+
+    private void register(List<String> events, EventStatus status) {
+        for (int from = 0; from < events.size(); from += REGISTER_CHUNK) {
+            List<EventStatusUpdate> chunk = events.subList(from, Math.min(from + REGISTER_CHUNK, events.size())).stream()
+                    .map(eventId -> new EventStatusUpdate(eventId, status))
+                    .toList();
+            assertEquals(200, restTemplate.postForEntity("/events/status/bulk", chunk, String.class).getStatusCode().value());
+        }
+    }
+
+    private long upstreamPolls() {
+        return meterRegistry.get("tracker.poll.latency").timers().stream().mapToLong(Timer::count).sum();
+    }
+
+    private static String percentiles(HistogramSnapshot snapshot) {
+        StringBuilder out = new StringBuilder();
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            out.append(String.format("p%.0f=%.1f ms  ", value.percentile() * 100, value.value(TimeUnit.MILLISECONDS)));
+        }
+        return out.append(String.format("max=%.1f ms", snapshot.max(TimeUnit.MILLISECONDS))).toString();
+    }
+
+    /**
+     * Consumes the score topic and, for every record carrying a match's current score, measures
+     * record timestamp minus the moment the simulator changed that score. Records whose score
+     * has already been superseded by a later goal are counted but not timed.
+     */
+    private final class ScoreChangeLatency implements Runnable {
+        private final Timer latency = Timer.builder("load.score.change.latency")
+                .publishPercentiles(PERCENTILES)
+                .register(new SimpleMeterRegistry());
+        private final AtomicLong superseded = new AtomicLong();
+        private final AtomicBoolean running = new AtomicBoolean(true);
+        private final Set<String> timed = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void run() {
+            Map<String, Object> props = Map.of(
+                    ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+                    ConsumerConfig.GROUP_ID_CONFIG, "load-harness",
+                    ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false,
+                    ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+            try (Consumer<String, String> consumer = new DefaultKafkaConsumerFactory<>(
+                    props, new StringDeserializer(), new StringDeserializer()).createConsumer()) {
+                consumer.subscribe(List.of(TOPIC));
+                while (running.get()) {
+                    for (ConsumerRecord<String, String> record : consumer.poll(Duration.ofMillis(200))) {
+                        measure(record);
+                    }
+                }
+            }
+        }
+
+        private void measure(ConsumerRecord<String, String> record) {
+            try {
+                JsonNode payload = objectMapper.readTree(record.value());
+                SimulatedScore current = simulator.peek(record.key());
+                if (current == null || !current.currentScore().equals(payload.path("currentScore").asText())) {
+                    superseded.incrementAndGet();
+                    return;
+                }
+                if (current.home() + current.away() == 0) {
+                    return; // First poll of a match, not a score change
+                }
+                if (timed.add(record.key() + "@" + current.changedAt())) {
+                    latency.record(Math.max(0, record.timestamp() - current.changedAt()), TimeUnit.MILLISECONDS);
+                }
+            } catch (Exception e) {
+                superseded.incrementAndGet(); // Not a map-format record; nothing to time
+            }
+        }
+
+        void stop() {
+            running.set(false);
+        }
+    }
+}
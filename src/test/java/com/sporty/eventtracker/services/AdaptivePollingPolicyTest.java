@@ -0,0 +1,137 @@
+package com.sporty.eventtracker.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptivePollingPolicyTest {
+
+    private final long[] now = {0L};
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptivePollingPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        policy = new AdaptivePollingPolicy(meterRegistry, true, 5_000, 40_000, 2.0, () -> now[0]);
+    }
+
+    @Test
+    void onScore_ShouldBackOffUpToMaxInterval_WhileScoreIsUnchanged() {
+        // Arrange
+        poll("match-1");
+        policy.onScore("match-1", "0:0");
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            policy.onScore("match-1", "0:0");
+        }
+
+        // Assert: 5s -> 10s -> 20s -> 40s, then capped
+        assertEquals(Duration.ofSeconds(40), policy.currentInterval("match-1"));
+    }
+
+    @Test
+    void onScore_ShouldResetToMinInterval_WhenScoreChanges() {
+        // Arrange
+        poll("match-1");
+        policy.onScore("match-1", "0:0");
+        policy.onScore("match-1", "0:0");
+        policy.onScore("match-1", "0:0");
+
+        // Act
+        policy.onScore("match-1", "1:0");
+
+        // Assert
+        assertEquals(Duration.ofSeconds(5), policy.currentInterval("match-1"));
+    }
+
+    @Test
+    void isDue_ShouldDeferEvent_UntilIntervalElapsed() {
+        // Arrange
+        poll("match-1");
+        policy.onScore("match-1", "0:0");
+        policy.onScore("match-1", "0:0"); // Backed off to 10s
+
+        // Act & Assert
+        now[0] = 5_000;
+        assertFalse(policy.isDue("match-1"));
+        now[0] = 10_000;
+        assertTrue(policy.isDue("match-1"));
+        assertEquals(1.0, meterRegistry.counter("tracker.poll.deferred").count());
+    }
+
+    @Test
+    void isDue_ShouldNotUseUpInterval_UntilPollIsMarked() {
+        // Arrange
+        poll("match-1");
+        now[0] = 5_000;
+
+        // Act: due, but the poll was then rejected by a later gate
+        boolean rejected = policy.isDue("match-1");
+        boolean retried = policy.isDue("match-1");
+        policy.markPolled("match-1");
+
+        // Assert
+        assertTrue(rejected);
+        assertTrue(retried);
+        assertFalse(policy.isDue("match-1"));
+    }
+
+    @Test
+    void due_ShouldKeepOnlyDueEvents() {
+        // Arrange
+        policy.track("match-2");
+        poll("match-1");
+        policy.onScore("match-1", "0:0");
+        policy.onScore("match-1", "0:0");
+        now[0] = 5_000;
+
+        // Act
+        List<String> due = policy.due(List.of("match-1", "match-2"));
+
+        // Assert
+        assertEquals(List.of("match-2"), due);
+    }
+
+    @Test
+    void onScore_ShouldNotTrackEvent_AfterEviction() {
+        // Arrange
+        poll("match-1");
+        policy.evict("match-1");
+
+        // Act: a late response for a stopped event
+        policy.markPolled("match-1");
+        policy.onScore("match-1", "0:0");
+
+        // Assert: a restarted event is due immediately at min interval
+        assertEquals(Duration.ofSeconds(5), policy.currentInterval("match-1"));
+        policy.track("match-1");
+        assertTrue(policy.isDue("match-1"));
+    }
+
+    @Test
+    void isDue_ShouldAlwaysPoll_WhenDisabled() {
+        // Arrange
+        policy = new AdaptivePollingPolicy(meterRegistry, false, 5_000, 40_000, 2.0, () -> now[0]);
+        policy.track("match-1");
+
+        // Act & Assert
+        assertTrue(policy.isDue("match-1"));
+        policy.markPolled("match-1");
+        assertTrue(policy.isDue("match-1"));
+        assertEquals(Duration.ofSeconds(10), policy.tickInterval(Duration.ofSeconds(10)));
+    }
+
+    private void poll(String eventId) {
+        policy.track(eventId);
+        policy.markPolled(eventId);
+    }
+}
@@ -0,0 +1,159 @@
+package com.sporty.eventtracker.services;
+
+import com.sporty.eventtracker.dto.EventPriority;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoadShedderTest {
+
+    private final long[] now = {0L};
+    private SimpleMeterRegistry meterRegistry;
+    private LoadShedder shedder;
+    private Timer lag;
+    private Timer success;
+    private Timer error;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        shedder = new LoadShedder(meterRegistry, 10_000, 1_000, 0.2, 10, 3, () -> now[0]);
+        lag = Timer.builder("tracker.schedule.lag").tag("mode", "dynamic").register(meterRegistry);
+        success = Timer.builder("tracker.poll.latency").tag("request", "single").tag("outcome", "success").register(meterRegistry);
+        error = Timer.builder("tracker.poll.latency").tag("request", "single").tag("outcome", "error").register(meterRegistry);
+        shedder.setPriority("final", EventPriority.HIGH);
+        shedder.setPriority("friendly", EventPriority.LOW);
+    }
+
+    @Test
+    void evaluate_ShouldStayNormal_BelowThresholds() {
+        // Arrange
+        recordLag(10, 500);
+        recordPolls(45, 5);
+
+        // Act
+        shedder.evaluate();
+
+        // Assert
+        assertEquals(LoadShedder.Level.NORMAL, shedder.level());
+        assertTrue(shedder.shouldPoll("friendly"));
+    }
+
+    @Test
+    void evaluate_ShouldShed_WhenLagIsTwiceTheThreshold() {
+        // Arrange
+        recordLag(10, 2_500);
+
+        // Act
+        shedder.evaluate();
+
+        // Assert
+        assertEquals(LoadShedder.Level.SHED, shedder.level());
+        assertEquals(2.0, meterRegistry.get("tracker.shedding.level").gauge().value());
+        assertTrue(shedder.shouldPoll("final"));
+        assertFalse(shedder.shouldPoll("friendly"));
+        assertEquals(1.0, meterRegistry.get("tracker.shedding.skipped")
+                .tag("tier", "low").tag("reason", "shed").counter().count());
+    }
+
+    @Test
+    void evaluate_ShouldStretch_WhenErrorRateCrossesThreshold_AndIgnoreTooFewRequests() {
+        // Arrange
+        recordPolls(2, 3); // Below min-requests
+
+        // Act
+        shedder.evaluate();
+        LoadShedder.Level quiet = shedder.level();
+        recordPolls(14, 6); // 30% errors since the last evaluation
+        shedder.evaluate();
+
+        // Assert
+        assertEquals(LoadShedder.Level.NORMAL, quiet);
+        assertEquals(LoadShedder.Level.STRETCH, shedder.level());
+        assertTrue(shedder.shouldPoll("match-1")); // NORMAL is only stretched when shedding
+    }
+
+    @Test
+    void evaluate_ShouldStepDownOneLevelPerEvaluation() {
+        // Arrange
+        recordLag(10, 3_000);
+        shedder.evaluate();
+
+        // Act
+        shedder.evaluate(); // Nothing new recorded: severity 0
+        LoadShedder.Level afterOne = shedder.level();
+        shedder.evaluate();
+
+        // Assert
+        assertEquals(LoadShedder.Level.STRETCH, afterOne);
+        assertEquals(LoadShedder.Level.NORMAL, shedder.level());
+    }
+
+    @Test
+    void shouldPoll_ShouldPollStretchedEventOnceEveryStretchFactorRounds() {
+        // Arrange
+        recordLag(10, 1_500);
+        shedder.evaluate();
+        int polled = 0;
+
+        // Act
+        for (int round = 0; round < 30; round++) {
+            now[0] = round * 10_000L;
+            if (shedder.shouldPoll("friendly")) {
+                polled++;
+            }
+        }
+
+        // Assert
+        assertEquals(LoadShedder.Level.STRETCH, shedder.level());
+        assertEquals(10, polled);
+        assertEquals(20.0, meterRegistry.get("tracker.shedding.skipped")
+                .tag("tier", "low").tag("reason", "stretched").counter().count());
+    }
+
+    @Test
+    void sortByPriority_ShouldPutHighFirstAndLowLast_KeepingOrderWithinATier() {
+        // Arrange
+        List<String> events = new ArrayList<>(List.of("friendly", "match-1", "final", "match-2"));
+
+        // Act
+        shedder.sortByPriority(events);
+
+        // Assert
+        assertEquals(List.of("final", "match-1", "match-2", "friendly"), events);
+    }
+
+    @Test
+    void evict_ShouldForgetPriority() {
+        // Act
+        shedder.evict("final");
+
+        // Assert
+        assertEquals(EventPriority.NORMAL, shedder.priority("final"));
+        assertEquals(EventPriority.LOW, shedder.priority("friendly"));
+    }
+
+    private void recordLag(int runs, long millisEach) {
+        for (int i = 0; i < runs; i++) {
+            lag.record(millisEach, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void recordPolls(int successes, int errors) {
+        for (int i = 0; i < successes; i++) {
+            success.record(20, TimeUnit.MILLISECONDS);
+        }
+        for (int i = 0; i < errors; i++) {
+            error.record(20, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.sporty.eventtracker.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PollCoalescerTest {
+
+    @Mock
+    private ScorePollingService pollingService;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private PollCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new PollCoalescer(pollingService, taskScheduler, new SyncTaskExecutor(), new SimpleMeterRegistry(), 200);
+        when(pollingService.maxBatchSize()).thenReturn(3);
+    }
+
+    @Test
+    void submit_ShouldWaitForLinger_WhenBatchNotFull() {
+        // Act
+        coalescer.submit("match-A");
+        coalescer.submit("match-B");
+
+        // Assert
+        verify(pollingService, never()).pollEvents(anyList());
+        assertEquals(2, coalescer.pending());
+
+        coalescer.flush(); // Linger elapsed
+        verify(pollingService).pollEvents(List.of("match-A", "match-B"));
+        assertEquals(0, coalescer.pending());
+    }
+
+    @Test
+    void submit_ShouldFlushImmediately_WhenBatchIsFull() {
+        // Act
+        coalescer.submit("match-A");
+        coalescer.submit("match-B");
+        coalescer.submit("match-C");
+
+        // Assert
+        verify(pollingService).pollEvents(List.of("match-A", "match-B", "match-C"));
+        assertEquals(0, coalescer.pending());
+    }
+}
@@ -0,0 +1,68 @@
+package com.sporty.eventtracker.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PollLogTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong(10_000);
+
+    @Test
+    void success_InProductionMode_ShouldCapLinesPerSecond() {
+        // Arrange
+        PollLog pollLog = new PollLog(meterRegistry, "production", 2, 60_000, clock::get);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            pollLog.success("match-" + i);
+        }
+        clock.addAndGet(1_000);
+        pollLog.success("match-5"); // New second: logged, reporting the 3 left out
+
+        // Assert
+        assertEquals(3, suppressed("success"));
+    }
+
+    @Test
+    void success_InStandardMode_ShouldLogEveryPoll() {
+        // Arrange
+        PollLog pollLog = new PollLog(meterRegistry, "standard", 2, 60_000, clock::get);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            pollLog.success("match-" + i);
+        }
+
+        // Assert
+        assertEquals(0, suppressed("success"));
+    }
+
+    @Test
+    void failure_InProductionMode_ShouldPrintARepeatedStackTraceOncePerWindow() {
+        // Arrange
+        PollLog pollLog = new PollLog(meterRegistry, "production", 2, 60_000, clock::get);
+        IllegalStateException failure = new IllegalStateException("boom");
+        IllegalStateException other = new IllegalStateException("different");
+
+        // Act
+        pollLog.failure("Error polling score for event match-1", failure);
+        pollLog.failure("Error polling score for event match-2", failure);
+        pollLog.failure("Error polling score for event match-3", failure);
+        pollLog.failure("Error polling score for event match-4", other);
+        clock.addAndGet(60_000);
+        pollLog.failure("Error polling score for event match-5", failure); // Window over: full trace again
+
+        // Assert
+        assertEquals(2, suppressed("stack-trace"));
+    }
+
+    private double suppressed(String kind) {
+        return meterRegistry.get("tracker.logging.suppressed").tag("kind", kind).counter().count();
+    }
+}
@@ -0,0 +1,102 @@
+package com.sporty.eventtracker.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScoreChangeDetectorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void shouldPublish_ShouldSuppressUnchangedScores() {
+        ScoreChangeDetector detector = new ScoreChangeDetector(meterRegistry, true, 0, 100);
+        detector.track("match-A");
+
+        assertTrue(detector.shouldPublish("match-A", "0:0"));
+        assertFalse(detector.shouldPublish("match-A", "0:0"));
+        assertFalse(detector.shouldPublish("match-A", "0:0"));
+        assertTrue(detector.shouldPublish("match-A", "1:0"));
+
+        assertEquals(2.0, meterRegistry.counter("tracker.publish.suppressed").count());
+    }
+
+    @Test
+    void onSendComplete_ShouldCountAcknowledgedSends_AndForgetDroppedScores() {
+        ScoreChangeDetector detector = new ScoreChangeDetector(meterRegistry, true, 0, 100);
+        detector.track("match-A");
+
+        assertTrue(detector.shouldPublish("match-A", "1:0"));
+        detector.onSendComplete("match-A", "1:0", false); // Dropped by the producer
+        assertTrue(detector.shouldPublish("match-A", "1:0"));
+        detector.onSendComplete("match-A", "1:0", true);
+        assertFalse(detector.shouldPublish("match-A", "1:0"));
+
+        assertEquals(1.0, meterRegistry.counter("tracker.publish.published").count());
+    }
+
+    @Test
+    void shouldPublish_ShouldSendHeartbeat_EveryNUnchangedPolls() {
+        ScoreChangeDetector detector = new ScoreChangeDetector(meterRegistry, true, 3, 100);
+        detector.track("match-A");
+
+        assertTrue(detector.shouldPublish("match-A", "0:0"));
+        assertFalse(detector.shouldPublish("match-A", "0:0"));
+        assertFalse(detector.shouldPublish("match-A", "0:0"));
+        assertTrue(detector.shouldPublish("match-A", "0:0")); // Heartbeat
+        assertFalse(detector.shouldPublish("match-A", "0:0"));
+    }
+
+    @Test
+    void evict_ShouldForgetLastScore() {
+        ScoreChangeDetector detector = new ScoreChangeDetector(meterRegistry, true, 0, 100);
+        detector.track("match-A");
+        detector.shouldPublish("match-A", "2:1");
+
+        detector.evict("match-A");
+
+        assertEquals(0, detector.size());
+        assertTrue(detector.shouldPublish("match-A", "2:1"));
+    }
+
+    @Test
+    void shouldPublish_ShouldNotRecreateEntry_WhenPollCompletesAfterEvict() {
+        ScoreChangeDetector detector = new ScoreChangeDetector(meterRegistry, true, 0, 100);
+        detector.track("match-A");
+        detector.evict("match-A");
+
+        assertTrue(detector.shouldPublish("match-A", "0:0")); // In-flight poll of a stopped event
+        assertTrue(detector.shouldPublish("match-A", "0:0"));
+        assertEquals(0, detector.size());
+    }
+
+    @Test
+    void shouldPublish_ShouldFailOpen_WhenCacheIsFull() {
+        ScoreChangeDetector detector = new ScoreChangeDetector(meterRegistry, true, 0, 1);
+        detector.track("match-A");
+        detector.track("match-B");
+
+        assertTrue(detector.shouldPublish("match-B", "0:0"));
+        assertTrue(detector.shouldPublish("match-B", "0:0"));
+        assertEquals(1, detector.size());
+    }
+
+    @Test
+    void shouldPublish_ShouldAlwaysPublish_WhenDisabled() {
+        ScoreChangeDetector detector = new ScoreChangeDetector(meterRegistry, false, 0, 100);
+        detector.track("match-A");
+
+        assertTrue(detector.shouldPublish("match-A", "0:0"));
+        assertTrue(detector.shouldPublish("match-A", "0:0"));
+        assertEquals(0, detector.size());
+    }
+}
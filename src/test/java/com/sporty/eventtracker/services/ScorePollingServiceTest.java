@@ -1,19 +1,48 @@
 package com.sporty.eventtracker.services;
 
+import com.sporty.eventtracker.dto.EventPriority;
+import com.sporty.eventtracker.dto.ScoreUpdate;
+import com.sporty.eventtracker.services.fanout.ScoreFanout;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,12 +54,29 @@ class ScorePollingServiceTest {
     @Mock
     private ScoreUpdateProducer producer;
 
+    @Mock
+    private AsyncScoreApiClient asyncClient;
+
+    private ScoreChangeDetector changeDetector;
+
+    private AdaptivePollingPolicy adaptivePolicy;
+
+    private UpstreamGuard upstreamGuard;
+
+    private UpstreamValidators validators;
+
+    private PollLog pollLog;
+
     private ScorePollingService scorePollingService;
 
     @BeforeEach
     void setUp() {
-        // Manually inject mocks and a dummy URL
-        scorePollingService = new ScorePollingService(restTemplate, producer, "http://mock-api/");
+        changeDetector = new ScoreChangeDetector(new SimpleMeterRegistry(), true, 0, 100_000);
+        adaptivePolicy = new AdaptivePollingPolicy(new SimpleMeterRegistry(), false, 5000, 60000, 2.0);
+        upstreamGuard = new UpstreamGuard(new SimpleMeterRegistry(), 5, 10_000, 50, 0.1);
+        validators = new UpstreamValidators(new SimpleMeterRegistry(), false);
+        pollLog = new PollLog(new SimpleMeterRegistry(), "standard", 10, 60_000);
+        scorePollingService = service().build();
     }
 
     @Test
@@ -46,7 +92,7 @@ class ScorePollingServiceTest {
         scorePollingService.pollSingleEvent(eventId);
 
         // Assert
-        verify(producer).sendScoreUpdate(mockResponse); // Verify Kafka producer was called
+        verify(producer).sendScoreUpdate(scoreOf(mockResponse), any()); // Verify Kafka producer was called
     }
 
     @Test
@@ -60,7 +106,552 @@ class ScorePollingServiceTest {
         scorePollingService.pollSingleEvent(eventId);
 
         // Assert
-        verify(producer, never()).sendScoreUpdate(any()); // Ensure we didn't publish garbage
+        verify(producer, never()).sendScoreUpdate(any(), any()); // Ensure we didn't publish garbage
         // Verify logs (implicit check: method finished without throwing exception)
     }
-}
\ No newline at end of file
+
+    @Test
+    void pollSingleEvent_WithAsyncClient_ShouldPublishWhenResponseArrives() {
+        // Arrange
+        String eventId = "match-async";
+        Map<String, String> mockResponse = Map.of("eventId", eventId, "currentScore", "2:2");
+        CompletableFuture<Map<String, String>> response = new CompletableFuture<>();
+        when(asyncClient.fetchScore(eventId)).thenReturn(response);
+        scorePollingService = service().asyncClient().build();
+
+        // Act
+        CompletableFuture<Void> poll = scorePollingService.pollSingleEvent(eventId);
+
+        // Assert: nothing published (and no thread blocked) until the upstream answers
+        assertFalse(poll.isDone());
+        verify(producer, never()).sendScoreUpdate(any(), any());
+
+        response.complete(mockResponse);
+        assertTrue(poll.isDone());
+        verify(producer).sendScoreUpdate(scoreOf(mockResponse), any());
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void pollSingleEvent_WithAsyncClient_ShouldHandleApiError_Gracefully() {
+        // Arrange
+        String eventId = "match-async-error";
+        when(asyncClient.fetchScore(eventId))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Upstream returned HTTP 503")));
+        scorePollingService = service().asyncClient().build();
+
+        // Act
+        CompletableFuture<Void> poll = scorePollingService.pollSingleEvent(eventId);
+
+        // Assert
+        assertTrue(poll.isDone());
+        assertFalse(poll.isCompletedExceptionally());
+        verify(producer, never()).sendScoreUpdate(any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void pollEvents_WithBatching_ShouldFetchInChunksOfMaxBatchSize() {
+        // Arrange
+        scorePollingService = service().batchSize(2).build();
+        Map<String, String> scoreA = Map.of("eventId", "match-A", "currentScore", "1:0");
+        Map<String, String> scoreB = Map.of("eventId", "match-B", "currentScore", "0:0");
+        Map<String, String> scoreC = Map.of("eventId", "match-C", "currentScore", "3:1");
+
+        when(restTemplate.getForObject(eq("http://mock-api/scores?ids={ids}"), eq(Map[].class), eq("match-A,match-B")))
+                .thenReturn(new Map[]{scoreA, scoreB});
+        when(restTemplate.getForObject(eq("http://mock-api/scores?ids={ids}"), eq(Map[].class), eq("match-C")))
+                .thenReturn(new Map[]{scoreC});
+
+        // Act
+        scorePollingService.pollEvents(List.of("match-A", "match-B", "match-C"));
+
+        // Assert: two upstream requests, one publish per event
+        verify(restTemplate).getForObject(eq("http://mock-api/scores?ids={ids}"), eq(Map[].class), eq("match-A,match-B"));
+        verify(restTemplate).getForObject(eq("http://mock-api/scores?ids={ids}"), eq(Map[].class), eq("match-C"));
+        verify(producer).sendScoreUpdate(scoreOf(scoreA), any());
+        verify(producer).sendScoreUpdate(scoreOf(scoreB), any());
+        verify(producer).sendScoreUpdate(scoreOf(scoreC), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void pollEvents_WithBatching_ShouldPublishOnlyRequestedIds_AndCountMismatches() {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        scorePollingService = service().meterRegistry(meterRegistry).batchSize(3).build();
+        Map<String, String> scoreA = Map.of("eventId", "match-A", "currentScore", "1:0");
+        Map<String, String> stranger = Map.of("eventId", "match-X", "currentScore", "2:2");
+        Map<String, String> repeatedA = Map.of("eventId", "match-A", "currentScore", "9:9");
+        when(restTemplate.getForObject(eq("http://mock-api/scores?ids={ids}"), eq(Map[].class), eq("match-A,match-B,match-C")))
+                .thenReturn(new Map[]{scoreA, stranger, repeatedA});
+
+        // Act
+        scorePollingService.pollEvents(List.of("match-A", "match-B", "match-C"));
+
+        // Assert: only match-A is published, once; B and C are missing, X and the repeat are unexpected
+        verify(producer).sendScoreUpdate(scoreOf(scoreA), any());
+        verify(producer, times(1)).sendScoreUpdate(any(), any());
+        assertEquals(2.0, meterRegistry.get("tracker.poll.batch.mismatch").tag("kind", "missing").counter().count());
+        assertEquals(2.0, meterRegistry.get("tracker.poll.batch.mismatch").tag("kind", "unexpected").counter().count());
+    }
+
+    @Test
+    void pollEvents_WithoutBatching_ShouldPollEachEvent() {
+        // Arrange
+        Map<String, String> scoreA = Map.of("eventId", "match-A", "currentScore", "1:0");
+        Map<String, String> scoreB = Map.of("eventId", "match-B", "currentScore", "0:0");
+        when(restTemplate.getForObject(eq("http://mock-api/match-A"), eq(Map.class))).thenReturn(scoreA);
+        when(restTemplate.getForObject(eq("http://mock-api/match-B"), eq(Map.class))).thenReturn(scoreB);
+
+        // Act
+        scorePollingService.pollEvents(List.of("match-A", "match-B"));
+
+        // Assert
+        verify(producer).sendScoreUpdate(scoreOf(scoreA), any());
+        verify(producer).sendScoreUpdate(scoreOf(scoreB), any());
+    }
+
+    @Test
+    void pollSingleEvent_ShouldNotRepublish_WhenScoreUnchanged() {
+        // Arrange
+        String eventId = "match-steady";
+        Map<String, String> first = Map.of("eventId", eventId, "currentScore", "1:0");
+        Map<String, String> same = Map.of("eventId", eventId, "currentScore", "1:0");
+        Map<String, String> changed = Map.of("eventId", eventId, "currentScore", "1:1");
+        when(restTemplate.getForObject(eq("http://mock-api/" + eventId), eq(Map.class)))
+                .thenReturn(first, same, changed);
+        scorePollingService.onTrackingStarted(eventId);
+
+        // Act
+        scorePollingService.pollSingleEvent(eventId);
+        scorePollingService.pollSingleEvent(eventId);
+        scorePollingService.pollSingleEvent(eventId);
+
+        // Assert
+        verify(producer).sendScoreUpdate(scoreOf(first), any());
+        verify(producer).sendScoreUpdate(scoreOf(changed), any());
+        verify(producer, times(2)).sendScoreUpdate(any(), any());
+    }
+
+    @Test
+    void pollSingleEvent_ShouldRepublish_WhenProducerDroppedTheSend() {
+        // Arrange
+        String eventId = "match-dropped";
+        Map<String, String> score = Map.of("eventId", eventId, "currentScore", "2:0");
+        when(restTemplate.getForObject(eq("http://mock-api/" + eventId), eq(Map.class))).thenReturn(score);
+        doAnswer(invocation -> {
+            invocation.<ScoreUpdateProducer.SendListener>getArgument(1).onComplete(false); // At the in-flight cap
+            return null;
+        }).doNothing().when(producer).sendScoreUpdate(any(), any());
+        scorePollingService.onTrackingStarted(eventId);
+
+        // Act
+        scorePollingService.pollSingleEvent(eventId);
+        scorePollingService.pollSingleEvent(eventId);
+        scorePollingService.pollSingleEvent(eventId);
+
+        // Assert: the unchanged score went out again after the drop, then was suppressed
+        verify(producer, times(2)).sendScoreUpdate(scoreOf(score), any());
+    }
+
+    @Test
+    void pollSingleEvent_ShouldFanOut_OnlyOnceKafkaAcknowledgedTheSend() {
+        // Arrange
+        String eventId = "match-streamed";
+        Map<String, String> score = Map.of("eventId", eventId, "currentScore", "1:1");
+        ScoreFanout fanout = mock(ScoreFanout.class);
+        scorePollingService = service().fanout(fanout).build();
+        when(restTemplate.getForObject(eq("http://mock-api/" + eventId), eq(Map.class))).thenReturn(score);
+        AtomicReference<ScoreUpdateProducer.SendListener> unacknowledged = new AtomicReference<>();
+        doAnswer(invocation -> {
+            invocation.<ScoreUpdateProducer.SendListener>getArgument(1).onComplete(false); // Send failed
+            return null;
+        }).doAnswer(invocation -> {
+            unacknowledged.set(invocation.getArgument(1)); // Republished, not yet acknowledged
+            return null;
+        }).when(producer).sendScoreUpdate(any(), any());
+        scorePollingService.onTrackingStarted(eventId);
+
+        // Act
+        scorePollingService.pollSingleEvent(eventId);
+        scorePollingService.pollSingleEvent(eventId);
+
+        // Assert: neither the failed send nor the pending one reached SSE, the acknowledged one does once
+        verify(fanout, never()).publish(any());
+        unacknowledged.get().onComplete(true);
+        verify(fanout).publish(argThat(update -> update.eventId().equals(eventId)));
+    }
+
+    @Test
+    void pollSingleEvent_ShouldNotPublish_WhenScoreIsMalformed() {
+        // Arrange
+        String eventId = "match-garbled";
+        when(restTemplate.getForObject(eq("http://mock-api/" + eventId), eq(Map.class)))
+                .thenReturn(Map.of("eventId", eventId, "currentScore", "two-one"));
+
+        // Act
+        scorePollingService.pollSingleEvent(eventId);
+
+        // Assert
+        verify(producer, never()).sendScoreUpdate(any(), any());
+    }
+
+    // Matches the typed update built from an upstream response
+    private static ScoreUpdate scoreOf(Map<String, String> apiResponse) {
+        return argThat(update -> update.eventId().equals(apiResponse.get("eventId"))
+                && update.currentScore().equals(apiResponse.get("currentScore")));
+    }
+
+    @Test
+    void pollSingleEvent_ShouldShedPoll_WhenKafkaIsBackpressured() {
+        // Arrange
+        when(producer.isBackpressured()).thenReturn(true);
+
+        // Act
+        scorePollingService.pollSingleEvent("match-shed");
+
+        // Assert: not even the upstream is called
+        verifyNoInteractions(restTemplate);
+        verify(producer, never()).sendScoreUpdate(any(), any());
+    }
+
+    @Test
+    void pollSingleEvent_ShouldBackOff_WhenAdaptiveAndScoreUnchanged() {
+        // Arrange
+        long[] now = {0L};
+        adaptivePolicy = new AdaptivePollingPolicy(new SimpleMeterRegistry(), true, 5000, 60000, 2.0, () -> now[0]);
+        scorePollingService = service().build();
+        String eventId = "match-quiet";
+        when(restTemplate.getForObject(eq("http://mock-api/" + eventId), eq(Map.class)))
+                .thenReturn(Map.of("eventId", eventId, "currentScore", "0:0"));
+        scorePollingService.onTrackingStarted(eventId);
+
+        // Act: polls every 5s tick for 20s
+        for (; now[0] <= 20_000; now[0] += 5_000) {
+            scorePollingService.pollSingleEvent(eventId);
+        }
+
+        // Assert: t=0 (new), t=5s (interval reset on first score), t=15s (backed off to 10s)
+        verify(restTemplate, times(3)).getForObject(eq("http://mock-api/" + eventId), eq(Map.class));
+    }
+
+    @Test
+    void pollSingleEvent_WhenAdaptive_ShouldKeepEventDue_AfterPollWasShed() {
+        // Arrange
+        adaptivePolicy = new AdaptivePollingPolicy(new SimpleMeterRegistry(), true, 5000, 60000, 2.0, () -> 0L);
+        scorePollingService = service().build();
+        String eventId = "match-shed-then-due";
+        scorePollingService.onTrackingStarted(eventId);
+        when(producer.isBackpressured()).thenReturn(true, false);
+        when(restTemplate.getForObject(eq("http://mock-api/" + eventId), eq(Map.class)))
+                .thenReturn(Map.of("eventId", eventId, "currentScore", "0:0"));
+
+        // Act: the first poll is shed for Kafka backpressure, the retry in the same interval goes out
+        scorePollingService.pollSingleEvent(eventId);
+        scorePollingService.pollSingleEvent(eventId);
+
+        // Assert
+        verify(restTemplate, times(1)).getForObject(eq("http://mock-api/" + eventId), eq(Map.class));
+    }
+
+    @Test
+    void pollSingleEvent_ShouldRecordUpstreamLatencyByOutcome() {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        scorePollingService = service().meterRegistry(meterRegistry).build();
+        when(restTemplate.getForObject(eq("http://mock-api/match-ok"), eq(Map.class)))
+                .thenReturn(Map.of("eventId", "match-ok", "currentScore", "0:0"));
+        when(restTemplate.getForObject(eq("http://mock-api/match-down"), eq(Map.class)))
+                .thenThrow(new RuntimeException("API Down"));
+
+        // Act
+        scorePollingService.pollSingleEvent("match-ok");
+        scorePollingService.pollSingleEvent("match-down");
+
+        // Assert
+        assertEquals(1, meterRegistry.get("tracker.poll.latency").tags("request", "single", "outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get("tracker.poll.latency").tags("request", "single", "outcome", "error").timer().count());
+    }
+
+    @Test
+    void pollSingleEvent_ShouldFailFast_WhileUpstreamCircuitIsOpen() {
+        // Arrange
+        upstreamGuard = new UpstreamGuard(new SimpleMeterRegistry(), 2, 10_000, 50, 0.0);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        scorePollingService = service().meterRegistry(meterRegistry).build();
+        when(restTemplate.getForObject(anyString(), eq(Map.class)))
+                .thenThrow(new RuntimeException("API Down"));
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            scorePollingService.pollSingleEvent("match-down");
+        }
+
+        // Assert: two failures open the circuit, the remaining polls never reach the upstream
+        verify(restTemplate, times(2)).getForObject(anyString(), eq(Map.class));
+        assertEquals(UpstreamGuard.State.OPEN, upstreamGuard.state());
+        assertEquals(2, meterRegistry.get("tracker.poll.latency").tags("request", "single", "outcome", "error").timer().count());
+    }
+
+    @Test
+    void pollSingleEvent_ShouldSkipEvent_WhilePreviousPollIsInFlight() {
+        // Arrange
+        String eventId = "match-slow";
+        CompletableFuture<Map<String, String>> response = new CompletableFuture<>();
+        when(asyncClient.fetchScore(eventId)).thenReturn(response);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        scorePollingService = service().meterRegistry(meterRegistry).asyncClient().build();
+
+        // Act
+        CompletableFuture<Void> first = scorePollingService.pollSingleEvent(eventId);
+        CompletableFuture<Void> second = scorePollingService.pollSingleEvent(eventId);
+        response.complete(Map.of("eventId", eventId, "currentScore", "0:0"));
+        scorePollingService.pollSingleEvent(eventId);
+
+        // Assert: the overlapping poll is dropped, the one after the response goes out again
+        assertFalse(first.isCompletedExceptionally());
+        assertTrue(second.isDone());
+        verify(asyncClient, times(2)).fetchScore(eventId);
+        assertEquals(1.0, meterRegistry.get("tracker.poll.inflight.skipped").counter().count());
+    }
+
+    @Test
+    void pollSingleEvent_WithConditionalRequests_ShouldTreat304AsUnchangedScore() {
+        // Arrange
+        String eventId = "match-etag";
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        validators = new UpstreamValidators(meterRegistry, true);
+        changeDetector = new ScoreChangeDetector(meterRegistry, true, 2, 100_000); // Heartbeat every 2 unchanged polls
+        scorePollingService = service().meterRegistry(meterRegistry).build();
+        scorePollingService.onTrackingStarted(eventId);
+        HttpHeaders validator = new HttpHeaders();
+        validator.setETag("\"1-0\"");
+        validator.setContentLength(42);
+        when(restTemplate.exchange(eq("http://mock-api/" + eventId), eq(HttpMethod.GET), any(HttpEntity.class),
+                any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok().headers(validator).body(Map.of("eventId", eventId, "currentScore", "1:0")))
+                .thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(validator).build());
+
+        // Act
+        scorePollingService.pollSingleEvent(eventId);
+        scorePollingService.pollSingleEvent(eventId);
+        scorePollingService.pollSingleEvent(eventId);
+
+        // Assert: later requests carried the ETag; the first 304 was suppressed, the second sent the heartbeat
+        ArgumentCaptor<HttpEntity<?>> requests = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate, times(3)).exchange(anyString(), eq(HttpMethod.GET), requests.capture(),
+                any(ParameterizedTypeReference.class));
+        assertTrue(requests.getAllValues().get(0).getHeaders().getIfNoneMatch().isEmpty());
+        assertEquals(List.of("\"1-0\""), requests.getAllValues().get(1).getHeaders().getIfNoneMatch());
+        verify(producer, times(2)).sendScoreUpdate(any(), any());
+        assertEquals(1.0, meterRegistry.get("tracker.publish.suppressed").counter().count());
+        assertEquals(84.0, meterRegistry.get("tracker.poll.bytes.saved").counter().count());
+    }
+
+    @Test
+    void pollSingleEvent_WithoutChangeDetection_ShouldPublish304sAsRememberedScore_AndCountUnknownOnes() {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        validators = new UpstreamValidators(meterRegistry, true);
+        changeDetector = new ScoreChangeDetector(meterRegistry, false, 0, 100_000);
+        scorePollingService = service().meterRegistry(meterRegistry).build();
+        scorePollingService.onTrackingStarted("match-known");
+        scorePollingService.onTrackingStarted("match-unknown");
+        HttpHeaders validator = new HttpHeaders();
+        validator.setETag("\"1-0\"");
+        when(restTemplate.exchange(eq("http://mock-api/match-known"), eq(HttpMethod.GET), any(HttpEntity.class),
+                any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok().headers(validator).body(Map.of("eventId", "match-known", "currentScore", "1:0")))
+                .thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(validator).build());
+        when(restTemplate.exchange(eq("http://mock-api/match-unknown"), eq(HttpMethod.GET), any(HttpEntity.class),
+                any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build()); // 304 with nothing remembered
+
+        // Act
+        scorePollingService.pollSingleEvent("match-known");
+        scorePollingService.pollSingleEvent("match-known");
+        scorePollingService.pollSingleEvent("match-unknown");
+
+        // Assert: both known polls published; the unknown 304 published nothing but was counted
+        verify(producer, times(2)).sendScoreUpdate(any(), any());
+        assertEquals(2.0, meterRegistry.get("tracker.poll.conditional").tag("outcome", "not-modified").counter().count());
+        assertEquals(1.0, meterRegistry.get("tracker.poll.conditional.dropped").counter().count());
+    }
+
+    @Test
+    void pollSingleEvent_WithConditionalRequests_ShouldSendUnconditionally_AfterAFailedPublish() {
+        // Arrange
+        String eventId = "match-etag-failed";
+        validators = new UpstreamValidators(new SimpleMeterRegistry(), true);
+        scorePollingService = service().build();
+        scorePollingService.onTrackingStarted(eventId);
+        HttpHeaders validator = new HttpHeaders();
+        validator.setETag("\"1-0\"");
+        when(restTemplate.exchange(eq("http://mock-api/" + eventId), eq(HttpMethod.GET), any(HttpEntity.class),
+                any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok().headers(validator).body(Map.of("eventId", eventId, "currentScore", "1:0")));
+        doAnswer(invocation -> {
+            invocation.<ScoreUpdateProducer.SendListener>getArgument(1).onComplete(false);
+            return null;
+        }).when(producer).sendScoreUpdate(any(), any());
+
+        // Act
+        scorePollingService.pollSingleEvent(eventId);
+        scorePollingService.pollSingleEvent(eventId);
+
+        // Assert: the validator of the lost update was not sent
+        ArgumentCaptor<HttpEntity<?>> requests = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate, times(2)).exchange(anyString(), eq(HttpMethod.GET), requests.capture(),
+                any(ParameterizedTypeReference.class));
+        assertTrue(requests.getAllValues().get(1).getHeaders().getIfNoneMatch().isEmpty());
+    }
+
+    @Test
+    void pollSingleEvent_WhenShedding_ShouldSkipLowTier_AndStillPollHighTier() {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LoadShedder loadShedder = new LoadShedder(meterRegistry, 10_000, 1_000, 0.2, 20, 3, () -> 0L);
+        Timer.builder("tracker.schedule.lag").tag("mode", "dynamic").register(meterRegistry)
+                .record(5_000, TimeUnit.MILLISECONDS); // 5x the lag threshold
+        loadShedder.evaluate();
+        scorePollingService = service().meterRegistry(meterRegistry).loadShedder(loadShedder).build();
+        scorePollingService.setPriority("final", EventPriority.HIGH);
+        scorePollingService.setPriority("friendly", EventPriority.LOW);
+        Map<String, String> finalScore = Map.of("eventId", "final", "currentScore", "1:1");
+        when(restTemplate.getForObject(eq("http://mock-api/final"), eq(Map.class))).thenReturn(finalScore);
+
+        // Act
+        scorePollingService.pollSingleEvent("final");
+        scorePollingService.pollSingleEvent("friendly");
+
+        // Assert
+        verify(producer).sendScoreUpdate(scoreOf(finalScore), any());
+        verify(restTemplate, never()).getForObject(eq("http://mock-api/friendly"), eq(Map.class));
+        assertEquals(1.0, meterRegistry.get("tracker.shedding.skipped").tag("tier", "low").tag("reason", "shed").counter().count());
+    }
+
+    @Test
+    void pollSingleEvent_WithAsyncClient_ShouldDeferRequest_UntilRateLimitPermitIsDue() {
+        // Arrange
+        UpstreamRateLimiter rateLimiter = new UpstreamRateLimiter(new SimpleMeterRegistry(), 0.01, 1, () -> 0L, mock(TaskScheduler.class), Runnable::run); // 100s per permit
+        scorePollingService = service().asyncClient().rateLimiter(rateLimiter).build();
+        when(asyncClient.fetchScore("match-1"))
+                .thenReturn(CompletableFuture.completedFuture(Map.of("eventId", "match-1", "currentScore", "0:0")));
+
+        // Act
+        CompletableFuture<Void> first = scorePollingService.pollSingleEvent("match-1");
+        CompletableFuture<Void> second = scorePollingService.pollSingleEvent("match-2");
+
+        // Assert: the second poll is queued, not rejected, and holds no thread
+        assertTrue(first.isDone());
+        assertFalse(second.isDone());
+        verify(asyncClient, never()).fetchScore("match-2");
+    }
+
+    @Test
+    void pollSingleEvent_WithRateLimit_ShouldSendQueuedHighTierPollBeforeEarlierLowTierOne() {
+        // Arrange
+        long[] now = {0L};
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LoadShedder loadShedder = new LoadShedder(meterRegistry, 10_000, 1_000, 0.2, 20, 3, () -> 0L);
+        UpstreamRateLimiter rateLimiter = new UpstreamRateLimiter(meterRegistry, 100, 1, () -> now[0],
+                mock(TaskScheduler.class), Runnable::run); // One permit per 10ms, released by hand
+        scorePollingService = service().meterRegistry(meterRegistry).asyncClient().loadShedder(loadShedder)
+                .rateLimiter(rateLimiter).build();
+        scorePollingService.setPriority("final", EventPriority.HIGH);
+        scorePollingService.setPriority("friendly", EventPriority.LOW);
+        when(asyncClient.fetchScore(anyString()))
+                .thenReturn(CompletableFuture.completedFuture(Map.of("eventId", "any", "currentScore", "0:0")));
+        scorePollingService.pollSingleEvent("league"); // Takes the only permit
+        scorePollingService.pollSingleEvent("friendly");
+        scorePollingService.pollSingleEvent("final");
+
+        // Act
+        now[0] += TimeUnit.MILLISECONDS.toNanos(10);
+        rateLimiter.release();
+
+        // Assert
+        verify(asyncClient).fetchScore("final");
+        verify(asyncClient, never()).fetchScore("friendly");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void pollSingleEvent_WithRateLimit_ShouldNotRunGrantedPollOnTheReleasingThread() throws Exception {
+        // Arrange
+        long[] now = {0L};
+        ExecutorService resumeOn = Executors.newSingleThreadExecutor();
+        UpstreamRateLimiter rateLimiter = new UpstreamRateLimiter(new SimpleMeterRegistry(), 100, 1, () -> now[0],
+                mock(TaskScheduler.class), resumeOn); // One permit per 10ms, released by hand
+        scorePollingService = service().rateLimiter(rateLimiter).build();
+        AtomicReference<Thread> pollThread = new AtomicReference<>();
+        when(restTemplate.getForObject(anyString(), eq(Map.class))).thenAnswer(invocation -> {
+            pollThread.set(Thread.currentThread());
+            return Map.of("eventId", "match-2", "currentScore", "0:0");
+        });
+        scorePollingService.pollSingleEvent("match-1"); // Takes the only permit
+        CompletableFuture<Void> queued = scorePollingService.pollSingleEvent("match-2");
+
+        // Act
+        now[0] += TimeUnit.MILLISECONDS.toNanos(10);
+        rateLimiter.release();
+        queued.get(1, TimeUnit.SECONDS);
+
+        // Assert
+        assertNotSame(Thread.currentThread(), pollThread.get());
+        resumeOn.shutdown();
+    }
+
+    private ServiceBuilder service() {
+        return new ServiceBuilder();
+    }
+
+    // Builds the service from the collaborators set up above; tests only name what they change
+    private final class ServiceBuilder {
+        private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private AsyncScoreApiClient client;
+        private boolean batchEnabled;
+        private int maxBatchSize = 100;
+        private LoadShedder loadShedder;
+        private UpstreamRateLimiter rateLimiter;
+        private ScoreFanout fanout;
+
+        ServiceBuilder meterRegistry(MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+            return this;
+        }
+
+        ServiceBuilder asyncClient() {
+            this.client = asyncClient;
+            return this;
+        }
+
+        ServiceBuilder batchSize(int maxBatchSize) {
+            this.batchEnabled = true;
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        ServiceBuilder loadShedder(LoadShedder loadShedder) {
+            this.loadShedder = loadShedder;
+            return this;
+        }
+
+        ServiceBuilder rateLimiter(UpstreamRateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        ServiceBuilder fanout(ScoreFanout fanout) {
+            this.fanout = fanout;
+            return this;
+        }
+
+        ScorePollingService build() {
+            return new ScorePollingService(restTemplate, producer, changeDetector, validators, pollLog, adaptivePolicy,
+                    upstreamGuard, meterRegistry, "http://mock-api/", client, "http://mock-api/scores", batchEnabled,
+                    maxBatchSize, fanout, loadShedder, rateLimiter);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.sporty.eventtracker.services;
+
+import com.sporty.eventtracker.dto.ScoreUpdate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScoreUpdateProducerTest {
+
+    private static final String TOPIC = "live-scores-topic";
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void sendScoreUpdate_ShouldSendLegacyMapPayload_InMapFormat() {
+        // Arrange
+        ScoreUpdateProducer producer = new ScoreUpdateProducer(kafkaTemplate, meterRegistry, TOPIC, "map", 10, 0.8);
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(new CompletableFuture<>());
+
+        // Act
+        producer.sendScoreUpdate(new ScoreUpdate("match-1", 1, 0, 0L), sent -> { });
+
+        // Assert
+        verify(kafkaTemplate).send(TOPIC, "match-1", Map.of("eventId", "match-1", "currentScore", "1:0"));
+    }
+
+    @Test
+    void sendScoreUpdate_ShouldSendRecord_InTypedFormat() {
+        // Arrange
+        ScoreUpdateProducer producer = new ScoreUpdateProducer(kafkaTemplate, meterRegistry, TOPIC, "binary", 10, 0.8);
+        ScoreUpdate update = new ScoreUpdate("match-1", 1, 0, 0L);
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(new CompletableFuture<>());
+
+        // Act
+        producer.sendScoreUpdate(update, sent -> { });
+
+        // Assert
+        verify(kafkaTemplate).send(TOPIC, "match-1", update);
+    }
+
+    @Test
+    void sendScoreUpdate_ShouldCapInFlightSends_AndSignalBackpressure() {
+        // Arrange
+        ScoreUpdateProducer producer = new ScoreUpdateProducer(kafkaTemplate, meterRegistry, TOPIC, "map", 2, 1.0);
+        CompletableFuture<SendResult<String, Object>> pendingAck = new CompletableFuture<>();
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(pendingAck);
+
+        List<Boolean> outcomes = new ArrayList<>();
+
+        // Act
+        producer.sendScoreUpdate(new ScoreUpdate("match-1", 0, 0, 0L), outcomes::add);
+        producer.sendScoreUpdate(new ScoreUpdate("match-2", 0, 0, 0L), outcomes::add);
+        producer.sendScoreUpdate(new ScoreUpdate("match-3", 0, 0, 0L), outcomes::add); // Over the cap
+
+        // Assert
+        verify(kafkaTemplate, times(2)).send(anyString(), anyString(), any());
+        assertEquals(1.0, meterRegistry.counter("tracker.kafka.send.rejected").count());
+        assertTrue(producer.isBackpressured());
+        assertEquals(List.of(false), outcomes); // The dropped one is reported at once
+
+        pendingAck.complete(null); // Broker acknowledges both
+        assertEquals(List.of(false, true, true), outcomes);
+        assertEquals(0, producer.inFlightSends());
+        assertFalse(producer.isBackpressured());
+        assertEquals(2, meterRegistry.timer("tracker.kafka.send.latency").count());
+    }
+
+    @Test
+    void sendScoreUpdate_ShouldSignalBackpressure_WhenBufferIsExhausted() {
+        // Arrange
+        ScoreUpdateProducer producer = new ScoreUpdateProducer(kafkaTemplate, meterRegistry, TOPIC, "map", 10, 0.8);
+        when(kafkaTemplate.send(eq(TOPIC), anyString(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new TimeoutException("Failed to allocate memory within 500 ms")));
+
+        List<Boolean> outcomes = new ArrayList<>();
+
+        // Act
+        producer.sendScoreUpdate(new ScoreUpdate("match-1", 0, 0, 0L), outcomes::add);
+
+        // Assert
+        assertEquals(List.of(false), outcomes);
+        assertEquals(0, producer.inFlightSends());
+        assertTrue(producer.isBackpressured());
+        assertEquals(1.0, meterRegistry.counter("tracker.kafka.buffer.exhausted").count());
+        assertEquals(0.0, meterRegistry.counter("tracker.kafka.send.failures").count());
+    }
+
+    @Test
+    void sendScoreUpdate_ShouldCountWrappedTimeoutsAsTimeouts_AndOtherErrorsAsFailures() {
+        // Arrange
+        ScoreUpdateProducer producer = new ScoreUpdateProducer(kafkaTemplate, meterRegistry, TOPIC, "map", 10, 0.8);
+        when(kafkaTemplate.send(eq(TOPIC), anyString(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new CompletionException(
+                        new ExecutionException(new java.util.concurrent.TimeoutException("No ack within 5 s")))))
+                .thenReturn(CompletableFuture.failedFuture(new CompletionException(new IllegalStateException("Broker rejected"))));
+
+        // Act
+        producer.sendScoreUpdate(new ScoreUpdate("match-1", 0, 0, 0L), sent -> { });
+        producer.sendScoreUpdate(new ScoreUpdate("match-2", 0, 0, 0L), sent -> { });
+
+        // Assert
+        assertEquals(1.0, meterRegistry.counter("tracker.kafka.buffer.exhausted").count());
+        assertEquals(1.0, meterRegistry.counter("tracker.kafka.send.failures").count());
+    }
+}
@@ -0,0 +1,106 @@
+package com.sporty.eventtracker.services;
+
+import com.sporty.eventtracker.dto.EventStatus;
+import com.sporty.eventtracker.dto.EventStatusUpdate;
+import com.sporty.eventtracker.interfaces.EventScheduler;
+import com.sporty.eventtracker.services.cluster.ClusterStatusRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StatusIngestListenerTest {
+
+    @Mock
+    private EventScheduler eventScheduler;
+
+    @Mock
+    private TrackingJournal journal;
+
+    @Mock
+    private ClusterStatusRouter clusterRouter;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StatusIngestListener listener;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new StatusIngestListener(new StatusUpdates(eventScheduler, null, journal), meterRegistry);
+    }
+
+    @Test
+    void onStatuses_ShouldApplyLastStatusPerEvent_InOneCallPerStatus() {
+        // Arrange
+        List<ConsumerRecord<String, EventStatusUpdate>> records = List.of(
+                record(0, "match-1", EventStatus.LIVE),
+                record(1, "match-2", EventStatus.LIVE),
+                record(2, "match-1", EventStatus.NOT_LIVE),
+                record(3, "match-3", EventStatus.NOT_LIVE));
+        when(eventScheduler.startTrackingAll(List.of("match-2"))).thenReturn(1);
+        when(eventScheduler.stopTrackingAll(List.of("match-1", "match-3"))).thenReturn(1); // match-3 was not tracked
+
+        // Act
+        listener.onStatuses(records);
+
+        // Assert
+        verify(eventScheduler).startTrackingAll(List.of("match-2"));
+        verify(eventScheduler).stopTrackingAll(List.of("match-1", "match-3"));
+        verify(journal).appendStarted(List.of("match-2"));
+        verify(journal).appendStopped(List.of("match-1", "match-3"));
+        assertEquals(1.0, meterRegistry.get("tracker.status.ingest").tag("outcome", "started").counter().count());
+        assertEquals(1.0, meterRegistry.get("tracker.status.ingest").tag("outcome", "stopped").counter().count());
+    }
+
+    @Test
+    void onStatuses_ShouldSkipUndeserializableAndInvalidRecords() {
+        // Arrange: a null value is what ErrorHandlingDeserializer leaves for malformed JSON
+        List<ConsumerRecord<String, EventStatusUpdate>> records = List.of(
+                new ConsumerRecord<>("fixture-status", 0, 0, "match-1", null),
+                record(1, " ", EventStatus.LIVE),
+                record(2, "match-2", null));
+
+        // Act
+        listener.onStatuses(records);
+
+        // Assert
+        verify(eventScheduler, never()).startTrackingAll(anyCollection());
+        verify(eventScheduler, never()).stopTrackingAll(anyCollection());
+        assertEquals(3.0, meterRegistry.get("tracker.status.ingest").tag("outcome", "invalid").counter().count());
+    }
+
+    @Test
+    void onStatuses_InClusterMode_ShouldRouteAndFail_SoTheBatchIsRedelivered() {
+        // Arrange
+        listener = new StatusIngestListener(new StatusUpdates(eventScheduler, clusterRouter, journal), meterRegistry);
+        when(clusterRouter.routeAll(any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // Act & Assert
+        assertThrows(CompletionException.class,
+                () -> listener.onStatuses(List.of(record(0, "match-1", EventStatus.LIVE))));
+        verify(clusterRouter).routeAll(List.of("match-1"), List.of());
+        verifyNoInteractions(eventScheduler, journal);
+    }
+
+    private static ConsumerRecord<String, EventStatusUpdate> record(long offset, String eventId, EventStatus status) {
+        return new ConsumerRecord<>("fixture-status", 0, offset, eventId, new EventStatusUpdate(eventId, status));
+    }
+}
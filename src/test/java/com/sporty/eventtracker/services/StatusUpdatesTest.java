@@ -0,0 +1,82 @@
+package com.sporty.eventtracker.services;
+
+import com.sporty.eventtracker.dto.EventPriority;
+import com.sporty.eventtracker.dto.EventStatus;
+import com.sporty.eventtracker.dto.EventStatusUpdate;
+import com.sporty.eventtracker.interfaces.EventScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StatusUpdatesTest {
+
+    @Mock
+    private EventScheduler eventScheduler;
+
+    @Mock
+    private TrackingJournal journal;
+
+    private StatusUpdates statusUpdates;
+
+    @BeforeEach
+    void setUp() {
+        statusUpdates = new StatusUpdates(eventScheduler, null, journal);
+    }
+
+    @Test
+    void apply_ShouldSetPriorityBeforeStarting_AndJournalTheStart() {
+        // Arrange
+        StatusUpdates.Batch batch = statusUpdates.batch();
+        batch.add(new EventStatusUpdate("final", EventStatus.LIVE, EventPriority.HIGH));
+        batch.add(new EventStatusUpdate("friendly", EventStatus.LIVE, EventPriority.LOW));
+        batch.add(new EventStatusUpdate("friendly", EventStatus.NOT_LIVE, null)); // Last status wins
+        when(eventScheduler.startTrackingAll(List.of("final"))).thenReturn(1);
+        when(eventScheduler.stopTrackingAll(List.of("friendly"))).thenReturn(0); // Was not tracked
+
+        // Act
+        batch.apply();
+
+        // Assert
+        InOrder order = inOrder(eventScheduler, journal);
+        order.verify(eventScheduler).setPriority("final", EventPriority.HIGH);
+        order.verify(eventScheduler).startTrackingAll(List.of("final"));
+        order.verify(journal).appendStarted(List.of("final"));
+        verify(eventScheduler, never()).setPriority("friendly", EventPriority.LOW);
+        verify(journal).appendStopped(List.of("friendly"));
+        assertEquals(1, batch.started());
+        assertEquals(0, batch.stopped());
+    }
+
+    @Test
+    void add_ShouldRefuseUpdatesWithoutEventIdOrStatus() {
+        // Arrange
+        StatusUpdates.Batch batch = statusUpdates.batch();
+
+        // Act
+        boolean blankId = batch.add(new EventStatusUpdate(" ", EventStatus.LIVE));
+        boolean noStatus = batch.add(new EventStatusUpdate("match-1", null));
+        boolean missing = batch.add(null);
+        batch.apply();
+
+        // Assert
+        assertFalse(blankId);
+        assertFalse(noStatus);
+        assertFalse(missing);
+        assertEquals(0, batch.pending());
+        verify(eventScheduler, never()).startTrackingAll(any());
+    }
+}
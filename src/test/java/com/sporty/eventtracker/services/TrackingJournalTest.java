@@ -0,0 +1,129 @@
+package com.sporty.eventtracker.services;
+
+import com.sporty.eventtracker.interfaces.EventScheduler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TrackingJournalTest {
+
+    @Mock
+    private EventScheduler eventScheduler;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void recover_ShouldRestartEventsLiveAtShutdown() throws IOException {
+        // Arrange
+        TrackingJournal journal = open();
+        journal.appendStarted(List.of("match-1", "match-2", "match-3"));
+        journal.appendStopped(List.of("match-2"));
+        journal.close();
+
+        // Act: restart
+        TrackingJournal restarted = open();
+        restarted.recover();
+
+        // Assert
+        verify(eventScheduler).startTrackingAll(List.of("match-1", "match-3"));
+        restarted.close();
+    }
+
+    @Test
+    void recover_InClusterMode_ShouldNotRestartAnything() throws IOException {
+        // Arrange
+        TrackingJournal journal = open();
+        journal.appendStarted(List.of("match-1"));
+        journal.close();
+
+        // Act: restart as a cluster member
+        TrackingJournal restarted = open(true);
+        restarted.recover();
+
+        // Assert: ownership decides which instance polls match-1
+        verify(eventScheduler, never()).startTrackingAll(anyCollection());
+        restarted.close();
+    }
+
+    @Test
+    void recover_ShouldDoNothing_WhenJournalIsEmpty() throws IOException {
+        // Act
+        TrackingJournal journal = open();
+        journal.recover();
+
+        // Assert
+        verify(eventScheduler, never()).startTrackingAll(anyCollection());
+        journal.close();
+    }
+
+    @Test
+    void open_ShouldDropTornLastRecord() throws IOException {
+        // Arrange: a crash in the middle of writing "+match-2\n"
+        Files.writeString(journalPath(), "+match-1\n+matc", StandardCharsets.UTF_8);
+
+        // Act
+        TrackingJournal journal = open();
+        journal.appendStarted(List.of("match-3"));
+        journal.close();
+
+        // Assert
+        assertEquals("+match-1\n+match-3\n", Files.readString(journalPath()));
+        TrackingJournal restarted = open();
+        assertEquals(Set.of("match-1", "match-3"), restarted.liveEvents());
+        restarted.close();
+    }
+
+    @Test
+    void compact_ShouldRewriteJournalAsLiveSnapshot() throws IOException {
+        // Arrange
+        TrackingJournal journal = open();
+        journal.appendStarted(List.of("match-1", "match-2"));
+        journal.appendStopped(List.of("match-1"));
+        journal.appendStarted(List.of("match-1"));
+        journal.appendStopped(List.of("match-2"));
+
+        // Act
+        journal.compact();
+        journal.appendStarted(List.of("match-4"));
+        journal.close();
+
+        // Assert
+        assertEquals("+match-1\n+match-4\n", Files.readString(journalPath()));
+        assertTrue(Files.notExists(dir.resolve("tracking.journal.tmp")));
+    }
+
+    private TrackingJournal open() throws IOException {
+        return open(false);
+    }
+
+    private TrackingJournal open(boolean clusterMode) throws IOException {
+        TrackingJournal journal = new TrackingJournal(eventScheduler, taskScheduler, journalPath().toString(), false, 60_000, clusterMode);
+        journal.open();
+        return journal;
+    }
+
+    private Path journalPath() {
+        return dir.resolve("tracking.journal");
+    }
+}
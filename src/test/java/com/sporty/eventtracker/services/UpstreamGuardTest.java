@@ -0,0 +1,181 @@
+package com.sporty.eventtracker.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.net.ConnectException;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UpstreamGuardTest {
+
+    private final long[] now = {0L};
+    private SimpleMeterRegistry meterRegistry;
+    private UpstreamGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        guard = new UpstreamGuard(meterRegistry, 3, 10_000, 2, 0.0, () -> now[0]);
+    }
+
+    @Test
+    void call_ShouldOpenCircuit_AfterConsecutiveFailures() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertThrows(IllegalStateException.class, () -> guard.call(() -> fail(calls)));
+        }
+        UpstreamRejectedException rejected = assertThrows(UpstreamRejectedException.class, () -> guard.call(() -> fail(calls)));
+
+        // Assert
+        assertEquals(3, calls.get());
+        assertEquals("breaker-open", rejected.reason());
+        assertEquals(UpstreamGuard.State.OPEN, guard.state());
+        assertEquals(1.0, meterRegistry.get("tracker.upstream.breaker.state").gauge().value());
+        assertEquals(1.0, meterRegistry.get("tracker.upstream.rejected").tag("reason", "breaker-open").counter().count());
+    }
+
+    @Test
+    void call_ShouldCloseCircuit_WhenProbeSucceedsAfterOpenDuration() {
+        // Arrange
+        openCircuit();
+        now[0] += TimeUnit.MILLISECONDS.toNanos(10_000);
+
+        // Act
+        String result = guard.call(() -> "ok");
+
+        // Assert
+        assertEquals("ok", result);
+        assertEquals(UpstreamGuard.State.CLOSED, guard.state());
+    }
+
+    @Test
+    void call_ShouldReopenCircuit_WhenProbeFails() {
+        // Arrange
+        openCircuit();
+        now[0] += TimeUnit.MILLISECONDS.toNanos(10_000);
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> guard.call(() -> fail(new AtomicInteger())));
+
+        // Assert: the open period restarts from the failed probe
+        assertEquals(UpstreamGuard.State.OPEN, guard.state());
+        now[0] += TimeUnit.MILLISECONDS.toNanos(5_000);
+        assertThrows(UpstreamRejectedException.class, () -> guard.call(() -> "ok"));
+    }
+
+    @Test
+    void call_ShouldNotCountClientErrorsAsFailures() {
+        // Act
+        for (int i = 0; i < 5; i++) {
+            assertThrows(HttpClientErrorException.class, () -> guard.call(() -> {
+                throw HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", HttpHeaders.EMPTY, new byte[0], null);
+            }));
+        }
+
+        // Assert
+        assertEquals(UpstreamGuard.State.CLOSED, guard.state());
+    }
+
+    @Test
+    void callAsync_ShouldRejectCalls_WhenBulkheadIsFull() {
+        // Arrange: max-concurrent-calls is 2
+        guard.callAsync(CompletableFuture::new);
+        guard.callAsync(CompletableFuture::new);
+
+        // Act
+        CompletableFuture<Object> third = guard.callAsync(() -> CompletableFuture.completedFuture("ok"));
+
+        // Assert
+        assertTrue(third.isCompletedExceptionally());
+        assertEquals(1.0, meterRegistry.get("tracker.upstream.rejected").tag("reason", "bulkhead-full").counter().count());
+    }
+
+    @Test
+    void callAsync_ShouldReleasePermit_WhenResponseArrives() {
+        // Arrange
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        guard.callAsync(() -> pending);
+        guard.callAsync(CompletableFuture::new);
+
+        // Act
+        pending.complete("ok");
+
+        // Assert
+        assertEquals("ok", guard.callAsync(() -> CompletableFuture.completedFuture("ok")).join());
+    }
+
+    @Test
+    void call_ShouldRetryTransientErrors_OnlyWhileBudgetLasts() {
+        // Arrange: no refill, so only the initial allowance of 10 retries is available
+        meterRegistry = new SimpleMeterRegistry();
+        guard = new UpstreamGuard(meterRegistry, 100, 10_000, 2, 0.0, () -> now[0]);
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act: every call fails twice, so each one spends a retry
+        for (int i = 0; i < 12; i++) {
+            assertThrows(HttpServerErrorException.class, () -> guard.call(() -> {
+                calls.incrementAndGet();
+                throw HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "Unavailable", HttpHeaders.EMPTY, new byte[0], null);
+            }));
+        }
+
+        // Assert: the initial budget of 10 retries is spent, then failures are not retried
+        assertEquals(22, calls.get());
+        assertEquals(10.0, meterRegistry.get("tracker.upstream.retries").counter().count());
+    }
+
+    @Test
+    void callAsync_ShouldClassifyTheCause_WhenWrappedByTheAsyncClient() {
+        // Arrange
+        AtomicInteger timeoutCalls = new AtomicInteger();
+        AtomicInteger connectCalls = new AtomicInteger();
+
+        // Act
+        CompletableFuture<Object> timedOut = guard.callAsync(() -> {
+            timeoutCalls.incrementAndGet();
+            return CompletableFuture.failedFuture(new CompletionException(
+                    new ExecutionException(new HttpTimeoutException("request timed out"))));
+        });
+        CompletableFuture<Object> refused = guard.callAsync(() -> {
+            connectCalls.incrementAndGet();
+            return CompletableFuture.failedFuture(new CompletionException(
+                    new ExecutionException(new ConnectException("Connection refused"))));
+        });
+
+        // Assert: the timeout is not retried, the connection failure gets its one retry
+        assertTrue(timedOut.isCompletedExceptionally());
+        assertTrue(refused.isCompletedExceptionally());
+        assertEquals(1, timeoutCalls.get());
+        assertEquals(2, connectCalls.get());
+        assertEquals(1.0, meterRegistry.get("tracker.upstream.retries").counter().count());
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 3; i++) {
+            assertThrows(IllegalStateException.class, () -> guard.call(() -> fail(new AtomicInteger())));
+        }
+        assertEquals(UpstreamGuard.State.OPEN, guard.state());
+    }
+
+    private static String fail(AtomicInteger calls) {
+        calls.incrementAndGet();
+        throw new IllegalStateException("API Down");
+    }
+}
@@ -0,0 +1,171 @@
+package com.sporty.eventtracker.services;
+
+import com.sporty.eventtracker.dto.EventPriority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class UpstreamRateLimiterTest {
+
+    private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final long[] now = {0L};
+    private SimpleMeterRegistry meterRegistry;
+    private TaskScheduler taskScheduler;
+    private UpstreamRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        taskScheduler = mock(TaskScheduler.class); // Releases are run by hand, on the fake clock
+        limiter = new UpstreamRateLimiter(meterRegistry, 100, 3, () -> now[0], taskScheduler, Runnable::run); // One permit per 10ms
+    }
+
+    @Test
+    void acquire_ShouldLetTheBurstThrough_ThenPaceOnePermitPerInterval() {
+        // Act
+        List<CompletableFuture<Void>> permits = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            permits.add(limiter.acquire(EventPriority.NORMAL));
+        }
+        List<Boolean> atOnce = done(permits);
+        now[0] += 10 * MILLI;
+        limiter.release();
+        List<Boolean> after10ms = done(permits);
+        now[0] += 10 * MILLI;
+        limiter.release();
+
+        // Assert: queued polls go out one per interval, in arrival order
+        assertEquals(List.of(true, true, true, false, false), atOnce);
+        assertEquals(List.of(true, true, true, true, false), after10ms);
+        assertTrue(permits.get(4).isDone());
+    }
+
+    @Test
+    void acquire_ShouldRefillWhileIdle_UpToTheBurst() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire(EventPriority.NORMAL);
+        }
+
+        // Act
+        now[0] += 10_000 * MILLI;
+        List<CompletableFuture<Void>> permits = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            permits.add(limiter.acquire(EventPriority.NORMAL));
+        }
+
+        // Assert
+        assertEquals(List.of(true, true, true, false), done(permits));
+    }
+
+    @Test
+    void release_ShouldHandOutPermitsHighTierFirst() {
+        // Arrange
+        limiter = new UpstreamRateLimiter(new SimpleMeterRegistry(), 100, 1, () -> now[0], taskScheduler, Runnable::run);
+        limiter.acquire(EventPriority.NORMAL);
+        CompletableFuture<Void> low = limiter.acquire(EventPriority.LOW);
+        CompletableFuture<Void> normal = limiter.acquire(EventPriority.NORMAL);
+        CompletableFuture<Void> high = limiter.acquire(EventPriority.HIGH);
+
+        // Act
+        now[0] += 10 * MILLI;
+        limiter.release();
+        boolean highFirst = high.isDone() && !normal.isDone() && !low.isDone();
+        now[0] += 10 * MILLI;
+        limiter.release();
+        boolean normalSecond = normal.isDone() && !low.isDone();
+        now[0] += 10 * MILLI;
+        limiter.release();
+
+        // Assert: the HIGH poll that arrived last did not wait behind the queued LOW one
+        assertTrue(highFirst);
+        assertTrue(normalSecond);
+        assertTrue(low.isDone());
+    }
+
+    @Test
+    void acquire_ShouldCompleteAtOnce_WhileThePermitIsFree_AndCountTheWait() {
+        // Act
+        CompletableFuture<Void> permit = limiter.acquire(EventPriority.NORMAL);
+
+        // Assert
+        assertTrue(permit.isDone());
+        assertEquals(1, meterRegistry.get("tracker.upstream.ratelimit.wait").timer().count());
+        assertEquals(0.0, meterRegistry.get("tracker.upstream.ratelimit.queue").gauge().value());
+    }
+
+    @Test
+    void acquire_ShouldQueueOnceTheBucketIsEmpty_AndScheduleOneRelease() {
+        // Arrange
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new UpstreamRateLimiter(meterRegistry, 0.01, 1, () -> now[0], taskScheduler, Runnable::run); // 100s per permit
+        limiter.acquire(EventPriority.NORMAL);
+
+        // Act
+        CompletableFuture<Void> first = limiter.acquire(EventPriority.NORMAL);
+        CompletableFuture<Void> second = limiter.acquire(EventPriority.HIGH);
+
+        // Assert
+        assertFalse(first.isDone());
+        assertFalse(second.isDone());
+        assertEquals(2.0, meterRegistry.get("tracker.upstream.ratelimit.queue").gauge().value());
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void release_ShouldRecordHowLongThePollWaited() {
+        // Arrange
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new UpstreamRateLimiter(meterRegistry, 0.01, 1, () -> now[0], taskScheduler, Runnable::run); // 100s per permit
+        limiter.acquire(EventPriority.NORMAL);
+        CompletableFuture<Void> permit = limiter.acquire(EventPriority.NORMAL);
+
+        // Act
+        now[0] += TimeUnit.SECONDS.toNanos(100);
+        limiter.release();
+
+        // Assert
+        assertTrue(permit.isDone());
+        assertEquals(0.0, meterRegistry.get("tracker.upstream.ratelimit.queue").gauge().value());
+        assertEquals(100_000.0, meterRegistry.get("tracker.upstream.ratelimit.wait").timer().max(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void currentRate_ShouldReportPermitsGrantedInTheLastFullSecond() {
+        // Arrange
+        limiter.acquire(EventPriority.NORMAL);
+        limiter.acquire(EventPriority.NORMAL);
+
+        // Act
+        int sameSecond = limiter.currentRate();
+        now[0] += TimeUnit.SECONDS.toNanos(1);
+        int nextSecond = limiter.currentRate();
+        now[0] += TimeUnit.SECONDS.toNanos(1);
+        int later = limiter.currentRate();
+
+        // Assert
+        assertEquals(0, sameSecond);
+        assertEquals(2, nextSecond);
+        assertEquals(0, later);
+    }
+
+    private static List<Boolean> done(List<CompletableFuture<Void>> permits) {
+        return permits.stream().map(CompletableFuture::isDone).toList();
+    }
+}
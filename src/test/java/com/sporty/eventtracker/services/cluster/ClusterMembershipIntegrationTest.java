@@ -0,0 +1,130 @@
+package com.sporty.eventtracker.services.cluster;
+
+import com.sporty.eventtracker.config.ClusterConfig;
+import com.sporty.eventtracker.dto.EventStatus;
+import com.sporty.eventtracker.interfaces.EventScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.kafka.listener.KafkaMessageListenerContainer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Several in-process tracker instances sharing one embedded broker: each instance is a
+ * status container plus a ClusterMembership in front of a recording scheduler.
+ */
+@EmbeddedKafka(partitions = 6, topics = ClusterMembershipIntegrationTest.TOPIC)
+class ClusterMembershipIntegrationTest {
+
+    static final String TOPIC = "cluster-status-test";
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final List<KafkaMessageListenerContainer<String, String>> instances = new ArrayList<>();
+    private KafkaProperties kafkaProperties;
+    private ClusterStatusRouter router;
+
+    @BeforeEach
+    void setUp(EmbeddedKafkaBroker broker) {
+        kafkaProperties = new KafkaProperties();
+        kafkaProperties.setBootstrapServers(List.of(broker.getBrokersAsString()));
+        router = new ClusterStatusRouter(kafkaProperties, TOPIC);
+    }
+
+    @AfterEach
+    void tearDown() {
+        instances.forEach(KafkaMessageListenerContainer::stop);
+        router.close();
+    }
+
+    @Test
+    void eachEventShouldBeOwnedByExactlyOneInstance_AndRebalanceOnJoinAndLeave() {
+        // Arrange
+        List<String> events = IntStream.range(0, 30).mapToObj(i -> "match-" + i).toList();
+        RecordingScheduler nodeA = new RecordingScheduler();
+        RecordingScheduler nodeB = new RecordingScheduler();
+        startInstance("rebalance-group", nodeA);
+
+        // Act: node A alone owns every partition
+        router.routeAll(events, List.of()).join();
+
+        // Assert
+        await().atMost(TIMEOUT).untilAsserted(() -> assertEquals(Set.copyOf(events), nodeA.tracked()));
+
+        // Act: node B joins
+        KafkaMessageListenerContainer<String, String> instanceB = startInstance("rebalance-group", nodeB);
+
+        // Assert: the events are split, never double-tracked
+        await().atMost(TIMEOUT).untilAsserted(() -> {
+            assertFalse(nodeB.tracked().isEmpty());
+            assertEquals(events.size(), nodeA.tracked().size() + nodeB.tracked().size());
+            assertTrue(Collections.disjoint(nodeA.tracked(), nodeB.tracked()));
+        });
+
+        // Act: node B leaves
+        instanceB.stop();
+
+        // Assert: node A takes its events back
+        await().atMost(TIMEOUT).untilAsserted(() -> {
+            assertEquals(Set.copyOf(events), nodeA.tracked());
+            assertTrue(nodeB.tracked().isEmpty());
+        });
+    }
+
+    @Test
+    void notLiveStatus_ShouldStopTrackingOnTheOwner() {
+        // Arrange
+        RecordingScheduler node = new RecordingScheduler();
+        startInstance("stop-group", node);
+        router.route("match-stop", EventStatus.LIVE).join();
+        await().atMost(TIMEOUT).untilAsserted(() -> assertTrue(node.tracked().contains("match-stop")));
+
+        // Act
+        router.route("match-stop", EventStatus.NOT_LIVE).join();
+
+        // Assert
+        await().atMost(TIMEOUT).untilAsserted(() -> assertFalse(node.tracked().contains("match-stop")));
+    }
+
+    private KafkaMessageListenerContainer<String, String> startInstance(String groupId, EventScheduler scheduler) {
+        ClusterMembership membership = new ClusterMembership(scheduler, new SimpleMeterRegistry());
+        KafkaMessageListenerContainer<String, String> container = ClusterConfig.statusContainer(
+                kafkaProperties.buildConsumerProperties(null), TOPIC, groupId, membership);
+        container.start();
+        instances.add(container);
+        return container;
+    }
+
+    private static final class RecordingScheduler implements EventScheduler {
+        private final Set<String> tracked = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public boolean startTracking(String eventId) {
+            return tracked.add(eventId);
+        }
+
+        @Override
+        public boolean stopTracking(String eventId) {
+            return tracked.remove(eventId);
+        }
+
+        Set<String> tracked() {
+            return Set.copyOf(tracked);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.sporty.eventtracker.services.fanout;
+
+import com.sporty.eventtracker.dto.ScoreUpdate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScoreFanoutTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RecordingFanout fanout;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        fanout = new RecordingFanout(meterRegistry, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fanout.stop();
+    }
+
+    @Test
+    void subscribe_ShouldSendLatestScoreImmediately() {
+        // Arrange
+        fanout.track("match-1");
+        fanout.publish(new ScoreUpdate("match-1", 1, 0, 1_000));
+
+        // Act
+        RecordingEmitter emitter = (RecordingEmitter) fanout.subscribe("match-1");
+
+        // Assert
+        await().atMost(Duration.ofSeconds(5)).until(() -> emitter.frames.size() == 1);
+        assertTrue(emitter.frames.get(0).contains("\"currentScore\":\"1:0\""));
+    }
+
+    @Test
+    void publish_ShouldNotKeepSnapshot_OfEventNoLongerTracked() {
+        // Arrange: a poll that completes after stopTracking
+        fanout.track("match-1");
+        fanout.evict("match-1");
+        fanout.publish(new ScoreUpdate("match-1", 1, 0, 1_000));
+
+        // Act
+        RecordingEmitter emitter = (RecordingEmitter) fanout.subscribe("match-1");
+        fanout.publish(new ScoreUpdate("match-1", 2, 0, 2_000));
+
+        // Assert: only the live update arrives
+        await().atMost(Duration.ofSeconds(5)).until(() -> emitter.frames.size() == 1);
+        assertTrue(emitter.frames.get(0).contains("\"currentScore\":\"2:0\""));
+    }
+
+    @Test
+    void closeStalled_ShouldCloseStream_WhoseWriteIsBlocked() throws InterruptedException {
+        // Arrange
+        fanout.blockNextEmitter = true;
+        RecordingEmitter stuck = (RecordingEmitter) fanout.subscribe("match-1");
+        fanout.publish(new ScoreUpdate("match-1", 1, 0, 1_000));
+        assertTrue(stuck.writing.await(5, TimeUnit.SECONDS));
+
+        // Act: checked until the write has been blocked past the 50ms write timeout
+        await().atMost(Duration.ofSeconds(5)).until(() -> {
+            fanout.closeStalled();
+            return fanout.subscribers() == 0;
+        });
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("tracker.fanout.stalled").counter().count());
+        stuck.release.countDown();
+    }
+
+    @Test
+    void publish_ShouldConflateUpdates_ForSlowSubscriber_WithoutHoldingUpOthers() throws InterruptedException {
+        // Arrange
+        fanout.blockNextEmitter = true;
+        RecordingEmitter slow = (RecordingEmitter) fanout.subscribe("match-1");
+        RecordingEmitter fast = (RecordingEmitter) fanout.subscribe("match-1");
+
+        // Act: the slow client is stuck writing the first score while four more arrive
+        fanout.publish(new ScoreUpdate("match-1", 1, 0, 1_000));
+        assertTrue(slow.writing.await(5, TimeUnit.SECONDS));
+        for (int goals = 2; goals <= 5; goals++) {
+            fanout.publish(new ScoreUpdate("match-1", goals, 0, goals * 1_000L));
+        }
+
+        // Assert: the fast client is unaffected and ends on the newest score
+        await().atMost(Duration.ofSeconds(5)).until(() -> !fast.frames.isEmpty()
+                && fast.frames.get(fast.frames.size() - 1).contains("\"currentScore\":\"5:0\""));
+
+        // Assert: once unblocked, the slow client skips straight to the newest score
+        slow.release.countDown();
+        await().atMost(Duration.ofSeconds(5)).until(() -> slow.frames.size() == 2);
+        assertTrue(slow.frames.get(0).contains("\"currentScore\":\"1:0\""));
+        assertTrue(slow.frames.get(1).contains("\"currentScore\":\"5:0\""));
+        assertTrue(meterRegistry.get("tracker.fanout.conflated").counter().count() >= 3.0);
+    }
+
+    @Test
+    void subscribe_ShouldRefuse_AboveMaxSubscribers() {
+        // Arrange
+        fanout.subscribe("match-1");
+        fanout.subscribe("match-2");
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> fanout.subscribe("match-3"));
+        assertEquals(2, fanout.subscribers());
+        assertEquals(1.0, meterRegistry.get("tracker.fanout.rejected").counter().count());
+    }
+
+    private static final class RecordingFanout extends ScoreFanout {
+        private volatile boolean blockNextEmitter;
+
+        RecordingFanout(SimpleMeterRegistry meterRegistry, int maxSubscribers) {
+            super(meterRegistry, maxSubscribers, 2, 60_000, 50);
+        }
+
+        @Override
+        SseEmitter newEmitter(long timeoutMillis) {
+            RecordingEmitter emitter = new RecordingEmitter(blockNextEmitter);
+            blockNextEmitter = false;
+            return emitter;
+        }
+    }
+
+    /**
+     * Records what would go on the wire; optionally blocks its first write like a stalled client.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<String> frames = new CopyOnWriteArrayList<>();
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        RecordingEmitter(boolean blockFirstWrite) {
+            this.release = new CountDownLatch(blockFirstWrite ? 1 : 0);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            frames.add(builder.build().stream()
+                    .map(data -> String.valueOf(data.getData()))
+                    .collect(Collectors.joining()));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.sporty.eventtracker.services.schedulers;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactEventRegistryTest {
+
+    @Test
+    void add_ShouldRoundTripEveryIdShape() {
+        // Arrange
+        CompactEventRegistry registry = new CompactEventRegistry(16);
+        List<String> ids = List.of("match-123", "match-0", "42", "0", "match-007", "final", "cup-2024-1",
+                "x-99999999999999999999", "");
+
+        // Act
+        ids.forEach(registry::add);
+
+        // Assert
+        assertEquals(Set.copyOf(ids), new HashSet<>(registry.snapshot()));
+        ids.forEach(id -> assertTrue(registry.contains(id), id));
+        assertFalse(registry.contains("match-12"));
+        assertFalse(registry.contains("match-1230"));
+        assertFalse(registry.contains("match-07"));
+        assertFalse(registry.contains("042"));
+    }
+
+    @Test
+    void add_ShouldRejectDuplicates() {
+        // Arrange
+        CompactEventRegistry registry = new CompactEventRegistry(16);
+
+        // Act
+        boolean first = registry.add("match-1");
+        boolean second = registry.add("match-1");
+
+        // Assert
+        assertTrue(first);
+        assertFalse(second);
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    void remove_ShouldKeepOtherEventsFindable_WhileGrowingAndReusingSlots() {
+        // Arrange
+        CompactEventRegistry registry = new CompactEventRegistry(16);
+        for (int i = 0; i < 10_000; i++) {
+            registry.add("match-" + i);
+        }
+
+        // Act
+        for (int i = 0; i < 10_000; i += 2) {
+            assertTrue(registry.remove("match-" + i));
+        }
+        for (int i = 0; i < 5_000; i++) {
+            registry.add("cup-" + i); // Refills the freed slots
+        }
+
+        // Assert
+        assertEquals(10_000, registry.size());
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i % 2 == 1, registry.contains("match-" + i), "match-" + i);
+        }
+        for (int i = 0; i < 5_000; i++) {
+            assertTrue(registry.contains("cup-" + i));
+        }
+        assertEquals(16_384, registry.capacity());
+    }
+
+    @Test
+    void pollDue_ShouldReportDueEventsOncePerInterval() {
+        // Arrange
+        CompactEventRegistry registry = new CompactEventRegistry(16);
+        registry.add("match-1", 1_000);
+        registry.add("match-2", 6_000);
+        List<String> due = new ArrayList<>();
+
+        // Act
+        registry.pollDue(1_050, 10_000, (eventId, lateMillis, skippedRuns) -> due.add(eventId + "@" + lateMillis));
+        registry.pollDue(1_100, 10_000, (eventId, lateMillis, skippedRuns) -> due.add(eventId + "@" + lateMillis));
+        registry.pollDue(11_000, 10_000, (eventId, lateMillis, skippedRuns) -> due.add(eventId + "@" + lateMillis));
+
+        // Assert
+        assertEquals(List.of("match-1@50", "match-1@0", "match-2@5000"), due);
+    }
+
+    @Test
+    void pollDue_ShouldCollapseMissedRuns_AndKeepThePhase() {
+        // Arrange
+        CompactEventRegistry registry = new CompactEventRegistry(16);
+        registry.add("match-1", 1_000);
+        List<Long> skipped = new ArrayList<>();
+        List<Long> late = new ArrayList<>();
+
+        // Act
+        registry.pollDue(35_500, 10_000, (eventId, lateMillis, skippedRuns) -> {
+            skipped.add(skippedRuns);
+            late.add(lateMillis);
+        });
+        registry.pollDue(40_999, 10_000, (eventId, lateMillis, skippedRuns) -> skipped.add(skippedRuns));
+        registry.pollDue(41_000, 10_000, (eventId, lateMillis, skippedRuns) -> skipped.add(skippedRuns));
+
+        // Assert
+        assertEquals(List.of(3L, 0L), skipped); // Due at 31s after skipping 3 runs, then 41s
+        assertEquals(List.of(4_500L), late);
+    }
+}
@@ -1,19 +1,31 @@
 package com.sporty.eventtracker.services.schedulers;
 
+import com.sporty.eventtracker.services.AdaptivePollingPolicy;
 import com.sporty.eventtracker.services.ScorePollingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.TaskScheduler;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.concurrent.ScheduledFuture;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -27,6 +39,15 @@ class DynamicEventSchedulerTest {
     @Mock
     private ScorePollingService pollingService;
 
+    @Spy
+    private TaskExecutor pollExecutor = new SyncTaskExecutor(); // Platform mode: poll inline
+
+    @Spy
+    private AdaptivePollingPolicy adaptivePolicy = new AdaptivePollingPolicy(new SimpleMeterRegistry(), false, 5000, 60000, 2.0);
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private DynamicEventScheduler scheduler;
 
@@ -59,4 +80,64 @@ class DynamicEventSchedulerTest {
         // Should still only be called ONCE due to computeIfAbsent
         verify(taskScheduler, times(1)).scheduleAtFixedRate(any(Runnable.class), any(Duration.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void startTrackingAll_ShouldSpreadFirstPollsAcrossInterval() {
+        // Arrange
+        when(taskScheduler.scheduleAtFixedRate(any(Runnable.class), any(Instant.class), any(Duration.class)))
+                .thenReturn(mock(ScheduledFuture.class));
+        ArgumentCaptor<Instant> firstPolls = ArgumentCaptor.forClass(Instant.class);
+
+        // Act
+        scheduler.startTrackingAll(List.of("event-1", "event-2", "event-3", "event-4"));
+
+        // Assert: the four events start 2.5s apart
+        verify(taskScheduler, times(4)).scheduleAtFixedRate(any(Runnable.class), firstPolls.capture(), eq(Duration.ofSeconds(10)));
+        List<Instant> starts = firstPolls.getAllValues();
+        assertEquals(Duration.ofMillis(7500), Duration.between(starts.get(0), starts.get(3)));
+    }
+
+    @Test
+    void tick_WithCompactRegistry_ShouldHandDueEventsToTheSchedulerPool() {
+        // Arrange
+        CompactEventRegistry registry = new CompactEventRegistry(16);
+        DynamicEventScheduler compactScheduler = new DynamicEventScheduler(taskScheduler, pollExecutor, pollingService,
+                adaptivePolicy, meterRegistry, null, registry);
+        ArgumentCaptor<Runnable> polls = ArgumentCaptor.forClass(Runnable.class);
+
+        // Act
+        compactScheduler.startTracking("event-1");
+        compactScheduler.tick();
+        compactScheduler.tick(); // Not due again for another interval
+
+        // Assert
+        verify(taskScheduler, times(1)).schedule(polls.capture(), any(Instant.class));
+        polls.getValue().run();
+        verify(pollingService).pollSingleEvent("event-1");
+        verify(taskScheduler, never()).scheduleAtFixedRate(any(Runnable.class), any(Duration.class));
+
+        compactScheduler.stopTracking("event-1");
+        verify(pollingService).onTrackingStopped("event-1");
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    void tick_WithCompactRegistry_ShouldDispatchDueEventsInChunks() {
+        // Arrange
+        CompactEventRegistry registry = new CompactEventRegistry(128);
+        DynamicEventScheduler compactScheduler = new DynamicEventScheduler(taskScheduler, pollExecutor, pollingService,
+                adaptivePolicy, meterRegistry, null, registry);
+        for (int i = 0; i < 70; i++) {
+            compactScheduler.startTracking("event-" + i);
+        }
+        ArgumentCaptor<Runnable> chunks = ArgumentCaptor.forClass(Runnable.class);
+
+        // Act
+        compactScheduler.tick();
+
+        // Assert: 32 + 32 + 6 events, one task each
+        verify(taskScheduler, times(3)).schedule(chunks.capture(), any(Instant.class));
+        chunks.getAllValues().forEach(Runnable::run);
+        verify(pollingService, times(70)).pollSingleEvent(anyString());
+    }
+}
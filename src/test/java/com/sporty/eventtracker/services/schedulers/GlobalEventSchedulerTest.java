@@ -1,15 +1,28 @@
 package com.sporty.eventtracker.services.schedulers;
 
 import com.sporty.eventtracker.services.ScorePollingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class GlobalEventSchedulerTest {
@@ -17,9 +30,18 @@ class GlobalEventSchedulerTest {
     @Mock
     private ScorePollingService pollingService;
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
+
     private GlobalEventScheduler globalScheduler;
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(pollingService.pollSingleEvent(anyString())).thenReturn(CompletableFuture.completedFuture(null));
+        // Workers run inline so each tick completes synchronously
+        globalScheduler = new GlobalEventScheduler(pollingService, new SyncTaskExecutor(), meterRegistry, 4, 10_000, null);
+    }
+
     @Test
     void pollAllEvents_ShouldPollAllActiveEvents() {
         // Arrange
@@ -67,4 +89,99 @@ class GlobalEventSchedulerTest {
         // Assert
         verifyNoInteractions(pollingService);
     }
-}
\ No newline at end of file
+
+    @Test
+    void pollAllEvents_ShouldSkipTick_WhenPreviousTickStillRunning() {
+        // Arrange: workers are parked until we release them
+        List<Runnable> parkedWorkers = new ArrayList<>();
+        TaskExecutor parkingExecutor = parkedWorkers::add;
+        globalScheduler = new GlobalEventScheduler(pollingService, parkingExecutor, meterRegistry, 2, 10_000, null);
+        globalScheduler.startTracking("match-A");
+        globalScheduler.startTracking("match-B");
+        globalScheduler.startTracking("match-C");
+
+        // Act
+        globalScheduler.pollAllEvents();
+        globalScheduler.pollAllEvents(); // Overruns the first tick
+
+        // Assert: only the first tick's two workers were dispatched
+        assertEquals(2, parkedWorkers.size());
+        assertEquals(1.0, meterRegistry.counter("tracker.global.tick.skipped").count());
+
+        // Draining the first tick polls everything exactly once and frees the next tick
+        parkedWorkers.forEach(Runnable::run);
+        verify(pollingService, times(1)).pollSingleEvent("match-A");
+        verify(pollingService, times(1)).pollSingleEvent("match-B");
+        verify(pollingService, times(1)).pollSingleEvent("match-C");
+
+        globalScheduler.pollAllEvents();
+        assertEquals(4, parkedWorkers.size());
+        assertEquals(1, meterRegistry.timer("tracker.global.tick.duration").count());
+    }
+
+    @Test
+    void pollAllEvents_ShouldCountMissedDeadlines_WhenTickOverrunsFixedRate() {
+        // Arrange: a zero fixed-rate means every poll starts past the deadline
+        globalScheduler = new GlobalEventScheduler(pollingService, new SyncTaskExecutor(), meterRegistry, 1, 0, null);
+        globalScheduler.startTracking("match-A");
+        globalScheduler.startTracking("match-B");
+
+        // Act
+        globalScheduler.pollAllEvents();
+
+        // Assert
+        assertEquals(2.0, meterRegistry.counter("tracker.global.tick.missed.deadline").count());
+    }
+
+    @Test
+    void pollAllEvents_ShouldFinishTick_OnlyWhenAsyncPollsComplete() {
+        // Arrange
+        CompletableFuture<Void> inFlight = new CompletableFuture<>();
+        when(pollingService.pollSingleEvent("match-A")).thenReturn(inFlight);
+        globalScheduler.startTracking("match-A");
+
+        // Act
+        globalScheduler.pollAllEvents();
+        globalScheduler.pollAllEvents(); // Response still outstanding
+
+        // Assert
+        assertEquals(0, meterRegistry.timer("tracker.global.tick.duration").count());
+        assertEquals(1.0, meterRegistry.counter("tracker.global.tick.skipped").count());
+
+        inFlight.complete(null);
+        assertEquals(1, meterRegistry.timer("tracker.global.tick.duration").count());
+    }
+
+    @Test
+    void pollAllEvents_WithBatching_ShouldHandWholeChunksToPollingService() {
+        // Arrange
+        when(pollingService.maxBatchSize()).thenReturn(2);
+        when(pollingService.pollEvents(anyList())).thenReturn(CompletableFuture.completedFuture(null));
+        globalScheduler = new GlobalEventScheduler(pollingService, new SyncTaskExecutor(), meterRegistry, 4, 10_000, null);
+        globalScheduler.startTracking("match-A");
+        globalScheduler.startTracking("match-B");
+        globalScheduler.startTracking("match-C");
+
+        // Act
+        globalScheduler.pollAllEvents();
+
+        // Assert: 3 events in chunks of 2 -> two batch polls, no single polls
+        verify(pollingService, times(2)).pollEvents(anyList());
+        verify(pollingService, never()).pollSingleEvent(anyString());
+    }
+
+    @Test
+    void pollAllEvents_ShouldReportTrackedEventsAndScheduleLag() {
+        // Arrange
+        globalScheduler.startTracking("match-A");
+        globalScheduler.startTracking("match-B");
+
+        // Act
+        globalScheduler.pollAllEvents();
+        globalScheduler.pollAllEvents();
+
+        // Assert
+        assertEquals(2.0, meterRegistry.get("tracker.events.tracked").tag("mode", "global").gauge().value());
+        assertEquals(2, meterRegistry.get("tracker.schedule.lag").tag("mode", "global").timer().count());
+    }
+}
@@ -0,0 +1,91 @@
+package com.sporty.eventtracker.services.schedulers;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashedTimingWheelTest {
+
+    @Test
+    void add_ShouldSpreadEventsEvenlyAcrossSlots() {
+        // Arrange
+        HashedTimingWheel wheel = new HashedTimingWheel(10);
+
+        // Act
+        for (int i = 0; i < 1000; i++) {
+            wheel.add("match-" + i);
+        }
+
+        // Assert
+        for (int slot = 0; slot < 10; slot++) {
+            assertEquals(100, wheel.slotSize(slot));
+        }
+    }
+
+    @Test
+    void advance_ShouldFireEachEventExactlyOncePerRevolution() {
+        // Arrange
+        HashedTimingWheel wheel = new HashedTimingWheel(4);
+        wheel.add("match-A");
+        wheel.add("match-B");
+        wheel.add("match-C");
+
+        // Act
+        List<String> fired = new ArrayList<>();
+        for (int tick = 0; tick < 4; tick++) {
+            fired.addAll(wheel.advance());
+        }
+
+        // Assert
+        assertEquals(3, fired.size());
+        assertTrue(fired.containsAll(List.of("match-A", "match-B", "match-C")));
+    }
+
+    @Test
+    void add_ShouldIgnoreDuplicates() {
+        HashedTimingWheel wheel = new HashedTimingWheel(4);
+
+        assertTrue(wheel.add("match-A"));
+        assertFalse(wheel.add("match-A"));
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    void remove_ShouldTakeEventOffTheWheelImmediately() {
+        // Arrange
+        HashedTimingWheel wheel = new HashedTimingWheel(2);
+        wheel.add("match-A");
+
+        // Act
+        assertTrue(wheel.remove("match-A"));
+
+        // Assert: nothing left to fire, nothing left behind
+        assertTrue(wheel.advance().isEmpty());
+        assertTrue(wheel.advance().isEmpty());
+        assertEquals(0, wheel.size());
+        assertFalse(wheel.remove("match-A"));
+    }
+
+    @Test
+    void churn_ShouldNotLeaveStaleEntries() {
+        // Arrange
+        HashedTimingWheel wheel = new HashedTimingWheel(8);
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            wheel.add("match-" + i);
+            wheel.remove("match-" + i);
+        }
+
+        // Assert
+        assertEquals(0, wheel.size());
+        for (int slot = 0; slot < 8; slot++) {
+            assertEquals(0, wheel.slotSize(slot));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.sporty.eventtracker.services.schedulers;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ScheduleLagTest {
+
+    private static final long PERIOD = TimeUnit.SECONDS.toNanos(10);
+
+    private final Timer timer = ScheduleLag.timer(new SimpleMeterRegistry(), "test");
+
+    @Test
+    void fired_ShouldNotFlagRunsOnSchedule() {
+        // Arrange
+        ScheduleLag lag = new ScheduleLag(timer, Duration.ofNanos(PERIOD), 0);
+
+        // Act & Assert: slightly late runs still do their work
+        assertFalse(lag.fired(0));
+        assertFalse(lag.fired(PERIOD + PERIOD / 2));
+        assertFalse(lag.fired(2 * PERIOD + PERIOD / 2));
+    }
+
+    @Test
+    void fired_ShouldCollapseCatchUpBurst_IntoItsLastRun() {
+        // Arrange: a stall after the first run; runs 1..4 are all replayed back to back at t=45s
+        ScheduleLag lag = new ScheduleLag(timer, Duration.ofNanos(PERIOD), 0);
+        lag.fired(0);
+        long resumed = 4 * PERIOD + PERIOD / 2;
+
+        // Act
+        List<Boolean> collapsed = new ArrayList<>();
+        for (int run = 1; run <= 4; run++) {
+            collapsed.add(lag.fired(resumed));
+        }
+
+        // Assert: only the run whose successor is still in the future polls
+        assertEquals(List.of(true, true, true, false), collapsed);
+        assertFalse(lag.fired(5 * PERIOD));
+    }
+}
@@ -0,0 +1,90 @@
+package com.sporty.eventtracker.services.schedulers;
+
+import com.sporty.eventtracker.services.AdaptivePollingPolicy;
+import com.sporty.eventtracker.services.ScorePollingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class WheelEventSchedulerTest {
+
+    private static final int TICKS = 4;
+
+    @Mock
+    private ThreadPoolTaskScheduler taskScheduler;
+
+    @Mock
+    private ScorePollingService pollingService;
+
+    private WheelEventScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        // Run the slot hand-off inline
+        lenient().doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(taskScheduler).execute(any(Runnable.class));
+
+        scheduler = new WheelEventScheduler(taskScheduler, new SyncTaskExecutor(), pollingService,
+                new AdaptivePollingPolicy(new SimpleMeterRegistry(), false, 5000, 60000, 2.0), new SimpleMeterRegistry(), TICKS);
+    }
+
+    @Test
+    void tick_ShouldPollEachTrackedEventOncePerInterval() {
+        // Arrange
+        scheduler.startTracking("match-A");
+        scheduler.startTracking("match-B");
+
+        // Act: one full revolution
+        for (int i = 0; i < TICKS; i++) {
+            scheduler.tick();
+        }
+
+        // Assert
+        verify(pollingService, times(1)).pollSingleEvent("match-A");
+        verify(pollingService, times(1)).pollSingleEvent("match-B");
+    }
+
+    @Test
+    void startTracking_ShouldNotTrackDuplicate() {
+        // Act
+        scheduler.startTracking("match-A");
+        scheduler.startTracking("match-A");
+        for (int i = 0; i < TICKS; i++) {
+            scheduler.tick();
+        }
+
+        // Assert
+        verify(pollingService, times(1)).pollSingleEvent("match-A");
+    }
+
+    @Test
+    void stopTracking_ShouldRemoveEventFromWheel() {
+        // Arrange
+        scheduler.startTracking("match-A");
+
+        // Act
+        scheduler.stopTracking("match-A");
+        for (int i = 0; i < TICKS; i++) {
+            scheduler.tick();
+        }
+
+        // Assert
+        verify(pollingService, never()).pollSingleEvent("match-A");
+        verify(taskScheduler, never()).execute(any(Runnable.class));
+    }
+}
@@ -0,0 +1,85 @@
+package com.sporty.eventtracker.services.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sporty.eventtracker.dto.ScoreUpdate;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScoreUpdateSerializerTest {
+
+    private static final String TOPIC = "live-scores-topic";
+
+    private final ScoreUpdateBinarySerializer binarySerializer = new ScoreUpdateBinarySerializer();
+    private final ScoreUpdateBinaryDeserializer binaryDeserializer = new ScoreUpdateBinaryDeserializer();
+    private final ScoreUpdateJsonSerializer jsonSerializer = new ScoreUpdateJsonSerializer();
+
+    @Test
+    void binary_ShouldRoundTrip() {
+        // Arrange
+        ScoreUpdate update = ScoreUpdate.of("match-123", "2:1", 1_700_000_000_123L);
+
+        // Act
+        byte[] bytes = binarySerializer.serialize(TOPIC, update);
+
+        // Assert
+        assertEquals(ScoreUpdateBinarySerializer.FIXED_SIZE + "match-123".length(), bytes.length);
+        assertEquals(update, binaryDeserializer.deserialize(TOPIC, bytes));
+    }
+
+    @Test
+    void binary_ShouldRoundTripNonAsciiIds() {
+        ScoreUpdate update = new ScoreUpdate("\u00dcnion-K\u00f6ln-\u00df", 65_535, 0, 42L);
+
+        assertEquals(update, binaryDeserializer.deserialize(TOPIC, binarySerializer.serialize(TOPIC, update)));
+    }
+
+    @Test
+    void binary_ShouldRejectForeignPayloads() {
+        assertThrows(SerializationException.class,
+                () -> binaryDeserializer.deserialize(TOPIC, "{\"eventId\":\"x\"}".getBytes()));
+        assertNull(binarySerializer.serialize(TOPIC, null));
+    }
+
+    @Test
+    void json_ShouldBeReadableByJacksonAndKeepLegacyFields() throws Exception {
+        // Arrange
+        ScoreUpdate update = new ScoreUpdate("match-\"quoted\"\n", 3, 2, 1_700_000_000_000L);
+
+        // Act
+        Map<?, ?> parsed = new ObjectMapper().readValue(jsonSerializer.serialize(TOPIC, update), Map.class);
+
+        // Assert
+        assertEquals("match-\"quoted\"\n", parsed.get("eventId"));
+        assertEquals("3:2", parsed.get("currentScore"));
+        assertEquals(3, parsed.get("homeScore"));
+        assertEquals(2, parsed.get("awayScore"));
+        assertEquals(1_700_000_000_000L, ((Number) parsed.get("polledAt")).longValue());
+    }
+
+    /**
+     * Only the size is asserted; see the JMH benchmarks for throughput.
+     */
+    @Test
+    void binary_ShouldBeSmallerThanLegacyJsonMapPayload() {
+        // Arrange
+        ScoreUpdate update = ScoreUpdate.of("match-123456", "2:1", 1_700_000_000_000L);
+        try (JsonSerializer<Map<String, String>> legacySerializer = new JsonSerializer<>()) {
+            legacySerializer.setAddTypeInfo(false);
+
+            // Act
+            int legacySize = legacySerializer.serialize(TOPIC, update.toMap()).length;
+            int binarySize = binarySerializer.serialize(TOPIC, update).length;
+
+            // Assert
+            assertTrue(binarySize < legacySize, "binary should be smaller than the JSON map");
+        }
+    }
+}
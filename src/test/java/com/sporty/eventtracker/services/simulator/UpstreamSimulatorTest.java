@@ -0,0 +1,99 @@
+package com.sporty.eventtracker.services.simulator;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UpstreamSimulatorTest {
+
+    @Test
+    void score_ShouldOnlyEverGoUp_AndRememberWhenItChanged() throws InterruptedException {
+        // Arrange: about one goal per millisecond
+        UpstreamSimulator simulator = simulator("none", 0.0, 60_000);
+        assertNull(simulator.peek("match-1"));
+
+        // Act
+        UpstreamSimulator.SimulatedScore first = simulator.score("match-1");
+        Thread.sleep(20);
+        UpstreamSimulator.SimulatedScore later = simulator.score("match-1");
+
+        // Assert
+        assertEquals("0:0", first.currentScore());
+        assertTrue(later.home() + later.away() > 0);
+        assertTrue(later.changedAt() >= first.changedAt());
+        assertEquals(later, simulator.peek("match-1"));
+    }
+
+    @Test
+    void score_ShouldStayUnchanged_WhenNoGoalsAreConfigured() {
+        // Arrange
+        UpstreamSimulator simulator = simulator("none", 0.0, 0);
+
+        // Act
+        UpstreamSimulator.SimulatedScore first = simulator.score("match-1");
+        UpstreamSimulator.SimulatedScore second = simulator.score("match-1");
+
+        // Assert
+        assertEquals(first, second);
+    }
+
+    @Test
+    void respond_ShouldFailWith503_AtFullErrorRate() {
+        // Arrange
+        UpstreamSimulator simulator = simulator("none", 1.0, 0);
+
+        // Act
+        CompletableFuture<String> response = simulator.respond(() -> "body");
+
+        // Assert
+        CompletionException failure = assertThrows(CompletionException.class, response::join);
+        ResponseStatusException status = assertInstanceOf(ResponseStatusException.class, failure.getCause());
+        assertEquals(503, status.getStatusCode().value());
+    }
+
+    @Test
+    void respond_ShouldDelayResponse_ByConfiguredLatency() {
+        // Arrange
+        UpstreamSimulator simulator = simulator("fixed", 0.0, 0);
+
+        // Act
+        CompletableFuture<String> response = simulator.respond(() -> "body");
+
+        // Assert
+        assertFalse(response.isDone());
+        assertEquals("body", response.join());
+    }
+
+    @Test
+    void sampleLatency_LongTail_ShouldKeepMostResponsesFast() {
+        // Arrange
+        UpstreamSimulator simulator = simulator("long-tail", 0.0, 0);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        // Act
+        int fast = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (simulator.sampleLatency(random) < 50) {
+                fast++;
+            }
+        }
+
+        // Assert: with alpha 1.5 and a 50 ms mean the median is ~26 ms, yet the mean is 50 ms
+        assertTrue(fast > 7_000, "fast=" + fast);
+        assertTrue(fast < 10_000, "fast=" + fast);
+    }
+
+    private static UpstreamSimulator simulator(String distribution, double errorRate, double goalsPerMinute) {
+        return new UpstreamSimulator(distribution, 50, 20, 1.5, errorRate, 0.0, 30_000, goalsPerMinute);
+    }
+}
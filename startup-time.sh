@@ -0,0 +1,103 @@
+#!/bin/bash
+
+# Time-to-first-poll: from JVM launch until the first upstream poll has completed.
+# One event is restored from a tracking journal at startup, so the first poll fires as soon
+# as the application is ready. No Kafka broker is needed: the poll is counted when the fetch
+# completes, before the Kafka send.
+#
+# Usage: ./startup-time.sh build/libs/<app>.jar   (RUNS=3 PORT=8080 by default)
+# Build the jar with -PfastStartup -Dapp.journal.enabled=true to include the AOT-generated
+# context (AOT freezes the bean set, and the probe needs the journal); without AOT classes
+# only the AppCDS archive is measured. Needs GNU date, curl and unzip.
+
+set -euo pipefail
+
+GREEN='\033[0;32m'
+BLUE='\033[0;34m'
+RED='\033[0;31m'
+NC='\033[0m' # No Color
+
+JAR=${1:?"Usage: $0 <boot jar>"}
+RUNS=${RUNS:-3}
+PORT=${PORT:-8080}
+WORK=$(mktemp -d)
+APP_PID=""
+
+cleanup() {
+    if [ -n "$APP_PID" ]; then
+        kill "$APP_PID" 2> /dev/null || true
+    fi
+    rm -rf "$WORK"
+}
+trap cleanup EXIT
+
+# Runs the app once with the given JVM options and prints the milliseconds to its first poll
+first_poll_millis() {
+    printf '+startup-probe\n' > "$WORK/tracking.journal"
+    local start=$(date +%s%N)
+    java "$@" \
+        -Dserver.port="$PORT" \
+        -Dapp.journal.enabled=true \
+        -Dapp.journal.path="$WORK/tracking.journal" \
+        -Dapp.external-api.url="http://localhost:$PORT/mock-api/score/" \
+        -jar "$APP_JAR" > "$WORK/app.log" 2>&1 &
+    APP_PID=$!
+
+    local deadline=$((start + 60000000000))
+    while [ "$(date +%s%N)" -lt $deadline ]; do
+        if curl -s "http://localhost:$PORT/actuator/metrics/tracker.poll.latency" \
+                | grep -Eq '"statistic":"COUNT","value":[1-9]'; then
+            echo $((($(date +%s%N) - start) / 1000000))
+            kill "$APP_PID"; wait "$APP_PID" 2> /dev/null || true; APP_PID=""
+            return 0
+        fi
+        if ! kill -0 "$APP_PID" 2> /dev/null; then
+            break
+        fi
+        sleep 0.02
+    done
+
+    echo -e "${RED}❌ No poll within 60s, see the log below${NC}" >&2
+    tail -n 30 "$WORK/app.log" >&2
+    kill "$APP_PID" 2> /dev/null || true
+    return 1
+}
+
+measure() {
+    local label=$1
+    shift
+    local total=0
+    for run in $(seq 1 "$RUNS"); do
+        local millis
+        millis=$(first_poll_millis "$@")
+        echo "   $label run $run: ${millis} ms"
+        total=$((total + millis))
+    done
+    echo -e "${GREEN}✅ $label: $((total / RUNS)) ms to first poll (average of $RUNS)${NC}"
+}
+
+echo -e "${BLUE}⏱  Time to first poll${NC}"
+echo "======================================="
+
+# 1. Baseline: the jar as built, reflection-based context startup, no shared archive
+APP_JAR=$JAR
+measure "baseline" -Dspring.aot.enabled=false
+
+# 2. Extract the jar: AppCDS only matches a classpath of plain jars that does not change
+java -Djarmode=tools -jar "$JAR" extract --destination "$WORK/application" > /dev/null
+APP_JAR="$WORK/application/$(basename "$JAR")"
+
+AOT=()
+unzip -l "$JAR" > "$WORK/jar.list"
+if grep -q '__ApplicationContextInitializer' "$WORK/jar.list"; then
+    AOT=(-Dspring.aot.enabled=true)
+else
+    echo -e "${RED}⚠️  No AOT classes in $JAR (build with -PfastStartup); measuring AppCDS only${NC}"
+fi
+
+# 3. Training run: refresh the context, dump the loaded classes into the archive and exit
+java -XX:ArchiveClassesAtExit="$WORK/application.jsa" -Dspring.context.exit=onRefresh ${AOT[@]+"${AOT[@]}"} \
+    -Dapp.journal.path="$WORK/training.journal" -jar "$APP_JAR" > "$WORK/training.log" 2>&1
+
+# 4. Optimized: AOT-generated bean definitions plus the class-data-sharing archive
+measure "fast-startup" -XX:SharedArchiveFile="$WORK/application.jsa" ${AOT[@]+"${AOT[@]}"}